@@ -172,6 +172,8 @@ abstract class AbstractGenerator implements Generator {
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                                   = "UTF-8";
     protected boolean                  targetClean                                      = true;
+    protected int                      targetParallelism                                = 1;
+    protected boolean                  targetIncremental                                = false;
     final Language                     languageConfigured;
     Language                           language;
     Database                           database;
@@ -1379,6 +1381,26 @@ abstract class AbstractGenerator implements Generator {
         this.targetClean = clean;
     }
 
+    @Override
+    public int getTargetParallelism() {
+        return targetParallelism;
+    }
+
+    @Override
+    public void setTargetParallelism(int parallelism) {
+        this.targetParallelism = parallelism;
+    }
+
+    @Override
+    public boolean getTargetIncremental() {
+        return targetIncremental;
+    }
+
+    @Override
+    public void setTargetIncremental(boolean incremental) {
+        this.targetIncremental = incremental;
+    }
+
     /**
      * If file is a directory, recursively empty its children.
      * If file is a file, delete it.
@@ -37,27 +37,50 @@
  */
 package org.jooq.codegen;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FilenameFilter;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+import org.jooq.tools.JooqLogger;
+
 /**
  * A cache for directories and their contents.
+ * <p>
+ * This cache may be shared by writers that are closed concurrently. If a
+ * manifest has been loaded, it also remembers fingerprints of generated files,
+ * which allow for skipping the comparison with the previous file contents in
+ * subsequent runs.
  *
  * @author Lukas Eder
  */
 public final class Files {
 
-    private final Map<File, String[]> lists;
-    private final Set<File> mkdirs;
+    private static final JooqLogger       log = JooqLogger.getLogger(Files.class);
+
+    private final Map<File, String[]>     lists;
+    private final Set<File>               mkdirs;
+    private final Map<File, Fingerprint>  fingerprints;
+    private volatile boolean              incremental;
 
     public Files() {
-        this.lists = new HashMap<>();
-        this.mkdirs = new HashSet<>();
+        this.lists = new ConcurrentHashMap<>();
+        this.mkdirs = ConcurrentHashMap.newKeySet();
+        this.fingerprints = new ConcurrentHashMap<>();
     }
 
     public final String[] list(File dir, FilenameFilter filter) {
@@ -71,4 +94,112 @@ public final class Files {
         if (mkdirs.add(dir))
             dir.mkdirs();
     }
+
+    /**
+     * Whether a file is known to contain exactly the given content, according
+     * to the fingerprint recorded in the manifest.
+     * <p>
+     * The fingerprint is only trusted if the file's length and last
+     * modification time haven't changed since it was recorded.
+     */
+    final boolean unchanged(File file, byte[] content) {
+        if (!incremental)
+            return false;
+
+        Fingerprint f = fingerprints.get(file);
+        return f != null
+            && f.length == content.length
+            && f.length == file.length()
+            && f.lastModified == file.lastModified()
+            && f.hash.equals(hash(content));
+    }
+
+    /**
+     * Record the fingerprint of a file that has just been written or verified.
+     */
+    final void fingerprint(File file, byte[] content) {
+        if (incremental)
+            fingerprints.put(file, new Fingerprint(content.length, file.lastModified(), hash(content)));
+    }
+
+    /**
+     * Load the fingerprints of a previous run from a manifest file, and start
+     * recording fingerprints of this run.
+     */
+    public final void loadManifest(File manifest) {
+        incremental = true;
+
+        if (!manifest.isFile())
+            return;
+
+        File root = manifest.getParentFile();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifest), UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                // <hash> <length> <lastModified> <path>
+                String[] split = line.split(" ", 4);
+                if (split.length == 4)
+                    fingerprints.put(
+                        new File(root, split[3]),
+                        new Fingerprint(Long.parseLong(split[1]), Long.parseLong(split[2]), split[0])
+                    );
+            }
+        }
+        catch (IOException | NumberFormatException e) {
+            log.warn("Manifest", "Cannot read manifest " + manifest + ". Generated files will be compared with their previous contents. " + e.getMessage());
+            fingerprints.clear();
+        }
+    }
+
+    /**
+     * Store the fingerprints of all files that still exist in a manifest
+     * file.
+     */
+    public final void storeManifest(File manifest) {
+        if (!incremental)
+            return;
+
+        String root = manifest.getParentFile().getAbsolutePath() + File.separator;
+        Map<String, Fingerprint> sorted = new TreeMap<>();
+
+        // Other generator runs may share the same target directory and manifest
+        for (Map.Entry<File, Fingerprint> e : fingerprints.entrySet()) {
+            String path = e.getKey().getAbsolutePath();
+
+            if (path.startsWith(root) && e.getKey().isFile())
+                sorted.put(path.substring(root.length()), e.getValue());
+        }
+
+        mkdirs(manifest.getParentFile());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifest), UTF_8)) {
+            writer.write("# Fingerprints of files generated by jOOQ. Delete this file to compare all files with their previous contents.\n");
+
+            for (Map.Entry<String, Fingerprint> e : sorted.entrySet())
+                writer.write(e.getValue().hash + " " + e.getValue().length + " " + e.getValue().lastModified + " " + e.getKey() + "\n");
+        }
+        catch (IOException e) {
+            log.warn("Manifest", "Cannot write manifest " + manifest + ". " + e.getMessage());
+        }
+    }
+
+    private static final String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest)
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not available", e);
+        }
+    }
+
+    private static final record Fingerprint(long length, long lastModified, String hash) {}
 }
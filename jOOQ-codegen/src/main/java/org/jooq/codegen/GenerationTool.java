@@ -627,6 +627,7 @@ public class GenerationTool {
             database.setReadonlyIdentities(TRUE.equals(d.isReadonlyIdentities()));
             database.setReadonlyComputedColumns(!FALSE.equals(d.isReadonlyComputedColumns()));
             database.setReadonlyNonUpdatableColumns(!FALSE.equals(d.isReadonlyNonUpdatableColumns()));
+            database.setBulkLoadColumns(TRUE.equals(d.isBulkLoadColumns()));
             database.setLogSlowQueriesAfterSeconds(defaultIfNull(d.getLogSlowQueriesAfterSeconds(), 5));
             database.setLogSlowResultsAfterSeconds(defaultIfNull(d.getLogSlowResultsAfterSeconds(), 5));
 
@@ -725,6 +726,10 @@ public class GenerationTool {
 
             if (g.getTarget().isClean() != null)
                 generator.setTargetClean(g.getTarget().isClean());
+            if (g.getTarget().getParallelism() != null)
+                generator.setTargetParallelism(g.getTarget().getParallelism());
+            if (g.getTarget().isIncremental() != null)
+                generator.setTargetIncremental(g.getTarget().isIncremental());
             generator.setTargetLocale(locale);
 
             if (g.getGenerate().isIndexes() != null)
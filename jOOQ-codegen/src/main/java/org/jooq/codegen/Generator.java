@@ -1278,6 +1278,30 @@ public interface Generator {
      */
     void setTargetClean(boolean clean);
 
+    /**
+     * The number of threads used to finalise and write generated files.
+     */
+    int getTargetParallelism();
+
+    /**
+     * The number of threads used to finalise and write generated files.
+     */
+    void setTargetParallelism(int parallelism);
+
+    /**
+     * Whether a manifest of fingerprints of generated files should be kept in
+     * the target directory, to avoid reading back unchanged files in
+     * subsequent generation runs.
+     */
+    boolean getTargetIncremental();
+
+    /**
+     * Whether a manifest of fingerprints of generated files should be kept in
+     * the target directory, to avoid reading back unchanged files in
+     * subsequent generation runs.
+     */
+    void setTargetIncremental(boolean incremental);
+
     /**
      * The target locale.
      */
@@ -42,7 +42,7 @@ import static java.util.Collections.emptyList;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
@@ -438,37 +438,42 @@ public abstract class GeneratorWriter<W extends GeneratorWriter<W>> {
             return new CloseResult(false, false);
 
         try {
+            byte[] newBytes = newContent.getBytes(encoding());
+
+            // Files fingerprinted by a previous incremental run need not be read back
+            if (files.unchanged(file, newBytes))
+                return new CloseResult(true, false);
 
             // [#3756] Regenerate files only if there is a difference
-            String oldContent = null;
-            if (file.exists() && file.length() == newContent.getBytes(encoding()).length) {
+            byte[] oldBytes = null;
+            if (file.exists() && file.length() == newBytes.length) {
                 try (RandomAccessFile old = new RandomAccessFile(file, "r")) {
-                    byte[] oldBytes = new byte[(int) old.length()];
+                    oldBytes = new byte[(int) old.length()];
                     old.readFully(oldBytes);
-                    oldContent = new String(oldBytes, encoding());
                 }
             }
 
-            if (oldContent == null || !oldContent.equals(newContent)) {
+            if (oldBytes == null || !Arrays.equals(oldBytes, newBytes)) {
 
                 // [#5892] [#8363] On Windows FAT or NTFS and other case-insensitive
                 //                 file systems, we must explicitly replace files whose
                 //                 case-sensitive file name has changed
-                if (oldContent != null)
+                if (oldBytes != null)
                     file.delete();
 
-                PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), encoding()));
-
-                writer.append(newContent);
-                writer.flush();
-                writer.close();
+                try (OutputStream out = new FileOutputStream(file)) {
+                    out.write(newBytes);
+                }
 
+                files.fingerprint(file, newBytes);
                 return new CloseResult(true, true);
             }
 
             // [#10648] Check all modified files by this run
-            else
+            else {
+                files.fingerprint(file, newBytes);
                 return new CloseResult(true, false);
+            }
         }
         catch (IOException e) {
             throw new GeneratorException("Error writing " + file.getAbsolutePath(), e);
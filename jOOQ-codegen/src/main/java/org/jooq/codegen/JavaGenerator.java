@@ -85,6 +85,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -231,6 +235,12 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private static final String                   NO_FURTHER_INSTANCES_ALLOWED = "No further instances allowed";
 
+    /**
+     * The name of the manifest of file fingerprints in the target directory,
+     * used with {@link #getTargetIncremental()}.
+     */
+    private static final String                   MANIFEST                     = ".jooq-codegen-manifest";
+
     /**
      * [#4429] A map providing access to SQLDataType member literals
      */
@@ -295,12 +305,23 @@ public class JavaGenerator extends AbstractGenerator {
     /**
      * All files affected by this generator run.
      */
-    private Set<File>                             affectedFiles                = new LinkedHashSet<>();
+    private Set<File>                             affectedFiles                = Collections.synchronizedSet(new LinkedHashSet<>());
 
     /**
      * All files modified by this generator run.
      */
-    private Set<File>                             modifiedFiles                = new LinkedHashSet<>();
+    private Set<File>                             modifiedFiles                = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    /**
+     * The pool closing {@link JavaWriter} instances, if
+     * {@link #getTargetParallelism()} is greater than 1.
+     */
+    private ExecutorService                       closeExecutor;
+
+    /**
+     * The pending {@link JavaWriter#close()} calls of {@link #closeExecutor}.
+     */
+    private final List<Future<?>>                 closeFutures                 = new ArrayList<>();
 
     /**
      * These directories were not modified by this generator, but flagged as not
@@ -505,19 +526,45 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
+        File manifest = new File(getTargetDirectory(), MANIFEST);
+        if (targetIncremental)
+            fileCache.loadManifest(manifest);
+
+        // Definitions are loaded lazily and aren't thread safe, so only the
+        // import resolution, comparison, and writing of files is parallelised
+        if (targetParallelism > 1)
+            closeExecutor = Executors.newFixedThreadPool(targetParallelism, r -> {
+                Thread t = new Thread(r, "jooq-codegen-writer");
+                t.setDaemon(true);
+                return t;
+            });
+
         StopWatch w = new StopWatch();
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            try {
-                if (generateCatalogIfEmpty(catalog))
-                    generate(catalog);
-                else
-                    log.info("Excluding empty catalog", catalog);
+        try {
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                try {
+                    if (generateCatalogIfEmpty(catalog))
+                        generate(catalog);
+                    else
+                        log.info("Excluding empty catalog", catalog);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for catalog " + catalog, e);
+                }
             }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for catalog " + catalog, e);
+
+            awaitJavaWriters();
+        }
+        finally {
+            if (closeExecutor != null) {
+                closeExecutor.shutdownNow();
+                closeExecutor = null;
+                closeFutures.clear();
             }
         }
 
+        fileCache.storeManifest(manifest);
+
         long time = w.split();
 
         // [#10648] Log modified files
@@ -9976,6 +10023,13 @@ public class JavaGenerator extends AbstractGenerator {
 
     // [#4626] Users may need to call this method
     protected void closeJavaWriter(JavaWriter out) {
+        if (closeExecutor != null)
+            closeFutures.add(closeExecutor.submit(() -> closeJavaWriter0(out)));
+        else
+            closeJavaWriter0(out);
+    }
+
+    private void closeJavaWriter0(JavaWriter out) {
         CloseResult result = out.close();
 
         if (result.affected)
@@ -9984,4 +10038,24 @@ public class JavaGenerator extends AbstractGenerator {
         if (result.modified)
             modifiedFiles.add(out.file());
     }
+
+    private void awaitJavaWriters() {
+        try {
+            for (Future<?> future : closeFutures)
+                future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException("Interrupted while writing files", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof GeneratorException)
+                throw (GeneratorException) e.getCause();
+            else
+                throw new GeneratorException("Error writing files", e.getCause());
+        }
+        finally {
+            closeFutures.clear();
+        }
+    }
 }
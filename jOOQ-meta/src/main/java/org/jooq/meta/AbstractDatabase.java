@@ -99,6 +99,7 @@ import org.jooq.Param;
 // ...
 import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
 import org.jooq.Schema;
 import org.jooq.Select;
@@ -242,6 +243,7 @@ public abstract class AbstractDatabase implements Database {
     private Comparator<Definition>                                               orderProvider;
     private boolean                                                              includeRelations                        = true;
     private boolean                                                              tableValuedFunctions                    = true;
+    private boolean                                                              bulkLoadColumns;
     private int                                                                  logSlowQueriesAfterSeconds;
     private int                                                                  logSlowResultsAfterSeconds;
 
@@ -278,6 +280,11 @@ public abstract class AbstractDatabase implements Database {
     private transient Map<SchemaDefinition, List<IdentityDefinition>>            identitiesBySchema;
     private transient Map<SchemaDefinition, List<IndexDefinition>>               indexesBySchema;
     private transient Map<TableDefinition, List<IndexDefinition>>                indexesByTable;
+    private transient Map<Name, List<Record>>                                    columnRecordsByTable;
+    private transient Set<String>                                                columnRecordsSchemas;
+    private transient long                                                       columnRecordsBulkNanos;
+    private transient int                                                        columnRecordsFallbacks;
+    private transient long                                                       columnRecordsFallbackNanos;
     private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>           primaryKeysBySchema;
     private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>           uniqueKeysBySchema;
     private transient Map<SchemaDefinition, List<UniqueKeyDefinition>>           keysBySchema;
@@ -1645,6 +1652,16 @@ public abstract class AbstractDatabase implements Database {
         this.forcedTypesForXMLSchemaCollections = forcedTypesForXMLSchemaCollections;
     }
 
+    @Override
+    public final boolean getBulkLoadColumns() {
+        return bulkLoadColumns;
+    }
+
+    @Override
+    public final void setBulkLoadColumns(boolean bulkLoadColumns) {
+        this.bulkLoadColumns = bulkLoadColumns;
+    }
+
     @Override
     public final int getLogSlowQueriesAfterSeconds() {
         return logSlowQueriesAfterSeconds;
@@ -2843,6 +2860,101 @@ public abstract class AbstractDatabase implements Database {
         return list;
     }
 
+    /**
+     * Get the bulk loaded column records of a table.
+     * <p>
+     * If {@link #getBulkLoadColumns()} is active and supported by the dialect,
+     * the columns of all tables of all input schemata are fetched with a
+     * single {@link #columns(List)} query, the first time this is called.
+     *
+     * @return The table's column records, or <code>null</code> if columns are
+     *         not loaded in bulk, in case of which the table has to query its
+     *         own columns.
+     */
+    public final List<Record> getColumnRecords(TableDefinition table) {
+        if (!getBulkLoadColumns())
+            return null;
+
+        if (columnRecordsByTable == null) {
+            columnRecordsByTable = new HashMap<>();
+
+            ResultQuery<? extends Record> query = columns(getInputSchemata());
+
+            if (query == null) {
+                log.info("Bulk loading columns is not supported by this dialect");
+            }
+            else {
+                try {
+                    StopWatch watch = new StopWatch();
+
+                    for (Record record : query.fetch())
+                        columnRecordsByTable.computeIfAbsent(
+                            DSL.name(record.get(0, String.class), record.get(1, String.class)),
+                            k -> new ArrayList<>()
+                        ).add(record);
+
+                    columnRecordsSchemas = new HashSet<>();
+                    for (Name name : columnRecordsByTable.keySet())
+                        columnRecordsSchemas.add(name.first());
+
+                    columnRecordsBulkNanos = watch.split();
+                    watch.splitInfo("Columns of " + columnRecordsByTable.size() + " tables fetched in bulk with a single query");
+                }
+
+                // Tables can still query their own columns, e.g. if the
+                // dictionary views aren't accessible in bulk
+                catch (DataAccessException e) {
+                    log.warn("Could not load columns in bulk, querying them per table instead", e);
+                    columnRecordsByTable.clear();
+                }
+            }
+        }
+
+        return columnRecordsByTable.get(DSL.name(table.getSchema().getName(), table.getName()));
+    }
+
+    /**
+     * Get a table's column records from {@link #getColumnRecords(TableDefinition)}
+     * if available, or from a query of the table's own columns, otherwise.
+     * <p>
+     * Tables that are missing from successfully bulk loaded columns are
+     * logged, along with the time their own queries take, compared to the
+     * time of the bulk query.
+     */
+    final Iterable<? extends Record> columnRecords(TableDefinition table, Supplier<? extends Iterable<? extends Record>> query) {
+        List<Record> result = getColumnRecords(table);
+
+        if (result != null)
+            return result;
+
+        // Columns aren't loaded in bulk at all
+        else if (columnRecordsSchemas == null)
+            return query.get();
+
+        // The bulk query succeeded, but didn't produce the table's columns,
+        // e.g. because the dictionary views it queries are restricted by
+        // privileges, or because the table has no columns
+        String schema = table.getSchema().getName();
+
+        if (columnRecordsSchemas.add(schema))
+            log.warn("Columns of schema " + schema + " have not been fetched in bulk, querying them per table instead");
+
+        StopWatch watch = new StopWatch();
+        Iterable<? extends Record> r = query.get();
+        long nanos = watch.split();
+
+        columnRecordsFallbacks++;
+        columnRecordsFallbackNanos += nanos;
+
+        log.info("Columns of table " + table.getQualifiedName() + " have not been fetched in bulk",
+            "Queried in " + StopWatch.format(nanos)
+          + ". " + columnRecordsFallbacks + " table(s) queried in " + StopWatch.format(columnRecordsFallbackNanos)
+          + " so far, compared to " + StopWatch.format(columnRecordsBulkNanos) + " for the bulk query of " + columnRecordsByTable.size() + " tables"
+        );
+
+        return r;
+    }
+
     @Override
     public final List<RoutineDefinition> getRoutines(SchemaDefinition schema) {
         if (routines == null) {
@@ -3634,6 +3746,19 @@ public abstract class AbstractDatabase implements Database {
         return new LinkedHashMap<>();
     }
 
+    /**
+     * A query that produces the columns of ALL tables for a set of input
+     * schemas, or <code>null</code> if this is not supported, to be used with
+     * {@link #getBulkLoadColumns()}.
+     * <p>
+     * The first two resulting columns are the table's schema name and table
+     * name, the remaining ones are those that the dialect's
+     * {@link TableDefinition} expects.
+     */
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return null;
+    }
+
     /**
      * Retrieve ALL indexes from the database
      */
@@ -44,6 +44,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.jooq.Record;
 import org.jooq.Table;
@@ -262,4 +263,16 @@ implements
     protected List<ParameterDefinition> getParameters0() {
         return Collections.emptyList();
     }
+
+    /**
+     * The column records of this table, taken from the
+     * {@link AbstractDatabase#getColumnRecords(TableDefinition) bulk loaded
+     * column records}, if available, or from the argument query, otherwise.
+     */
+    protected final Iterable<? extends Record> columnRecords(Supplier<? extends Iterable<? extends Record>> query) {
+        if (getDatabase() instanceof AbstractDatabase d)
+            return d.columnRecords(this, query);
+        else
+            return query.get();
+    }
 }
@@ -1016,6 +1016,18 @@ public interface Database extends AutoCloseable {
      */
     void setForcedTypesForXMLSchemaCollections(boolean forcedTypesForXMLSchemaCollections);
 
+    /**
+     * Whether the columns of all tables should be loaded in bulk, using a
+     * single query, rather than using one query per table.
+     */
+    boolean getBulkLoadColumns();
+
+    /**
+     * Whether the columns of all tables should be loaded in bulk, using a
+     * single query, rather than using one query per table.
+     */
+    void setBulkLoadColumns(boolean bulkLoadColumns);
+
     /**
      * Log slow queries after this amount of seconds.
      */
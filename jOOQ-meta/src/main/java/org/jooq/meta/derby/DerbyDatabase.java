@@ -145,6 +145,13 @@ public class DerbyDatabase extends AbstractDatabase implements ResultQueryDataba
         }
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+
+        // [#6797] The cast is necessary if a non-standard collation is used
+        return DerbyTableDefinition.columns(this, SYSTABLES.sysschemas().SCHEMANAME.cast(VARCHAR(32672)).in(schemas));
+    }
+
     @Override
     public ResultQuery<Record6<String, String, String, String, String, Integer>> primaryKeys(List<String> schemas) {
         return null;
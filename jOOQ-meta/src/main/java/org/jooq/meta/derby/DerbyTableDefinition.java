@@ -42,12 +42,15 @@ import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.when;
 import static org.jooq.impl.SQLDataType.VARCHAR;
 import static org.jooq.meta.derby.sys.Tables.SYSCOLUMNS;
+import static org.jooq.meta.derby.sys.Tables.SYSTABLES;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Condition;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TableOptions.TableType;
 import org.jooq.meta.AbstractTableDefinition;
 import org.jooq.meta.ColumnDefinition;
@@ -73,18 +76,12 @@ public class DerbyTableDefinition extends AbstractTableDefinition {
 	public List<ColumnDefinition> getElements0() throws SQLException {
 		List<ColumnDefinition> result = new ArrayList<>();
 
-        for (Record record : create().select(
-                SYSCOLUMNS.COLUMNNAME,
-                SYSCOLUMNS.COLUMNNUMBER,
-                SYSCOLUMNS.COLUMNDATATYPE,
-                when(SYSCOLUMNS.AUTOINCREMENTINC.isNull(), SYSCOLUMNS.COLUMNDEFAULT).as(SYSCOLUMNS.COLUMNDEFAULT),
-                SYSCOLUMNS.AUTOINCREMENTINC)
-            .from(SYSCOLUMNS)
-            // [#1241] Suddenly, bind values didn't work any longer, here...
-            // [#6797] The cast is necessary if a non-standard collation is used
-            .where(SYSCOLUMNS.REFERENCEID.cast(VARCHAR(32672)).equal(inline(tableid)))
-            .orderBy(SYSCOLUMNS.COLUMNNUMBER)
-        ) {
+        for (Record record : columnRecords(() -> columns((DerbyDatabase) getDatabase(),
+
+                // [#1241] Suddenly, bind values didn't work any longer, here...
+                // [#6797] The cast is necessary if a non-standard collation is used
+                SYSCOLUMNS.REFERENCEID.cast(VARCHAR(32672)).equal(inline(tableid))
+            ))) {
 
             String columnDataType = record.get(SYSCOLUMNS.COLUMNDATATYPE, String.class);
             String typeName = parseTypeName(columnDataType);
@@ -119,4 +116,24 @@ public class DerbyTableDefinition extends AbstractTableDefinition {
 
 		return result;
 	}
+
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns(DerbyDatabase database, Condition condition) {
+        return database.create().select(
+                SYSTABLES.sysschemas().SCHEMANAME,
+                SYSTABLES.TABLENAME,
+                SYSCOLUMNS.COLUMNNAME,
+                SYSCOLUMNS.COLUMNNUMBER,
+                SYSCOLUMNS.COLUMNDATATYPE,
+                when(SYSCOLUMNS.AUTOINCREMENTINC.isNull(), SYSCOLUMNS.COLUMNDEFAULT).as(SYSCOLUMNS.COLUMNDEFAULT),
+                SYSCOLUMNS.AUTOINCREMENTINC)
+            .from(SYSCOLUMNS)
+            .join(SYSTABLES)
+                .on(SYSCOLUMNS.REFERENCEID.eq(SYSTABLES.TABLEID))
+            .where(condition)
+            .orderBy(SYSCOLUMNS.COLUMNNUMBER);
+    }
 }
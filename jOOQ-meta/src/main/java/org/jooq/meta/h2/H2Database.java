@@ -368,6 +368,13 @@ public class H2Database extends AbstractDatabase implements ResultQueryDatabase
         }
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return is2_0_202()
+            ? H2TableDefinition.columns2_0(this, COLUMNS.TABLE_SCHEMA.in(schemas))
+            : H2TableDefinition.columns1_4(this, COLUMNS.TABLE_SCHEMA.in(schemas));
+    }
+
     @Override
     public ResultQuery<Record6<String, String, String, String, String, Integer>> primaryKeys(List<String> schemas) {
 
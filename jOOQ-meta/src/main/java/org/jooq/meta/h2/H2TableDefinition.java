@@ -56,9 +56,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.jooq.Condition;
 import org.jooq.Name;
 import org.jooq.Param;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TableOptions.TableType;
 import org.jooq.meta.AbstractTableDefinition;
 import org.jooq.meta.ColumnDefinition;
@@ -103,44 +105,10 @@ public class H2TableDefinition extends AbstractTableDefinition {
 
         H2Database db = (H2Database) getDatabase();
 
-
-        // [#252] While recursing on ELEMENT_TYPES to detect multi dimensional
-        //        arrays looks like the cleanest approach, H2's recursive SQL
-        //        has been troubled by a ton of bugs in the past. Hard-coded
-        //        left joins are an ugly option, which is why we opt for doing
-        //        this calculation in Java, for once.
-        //        See also: https://github.com/jOOQ/jOOQ/issues/252#issuecomment-1240484853
-        for (Record record : create().select(
-                COLUMNS.COLUMN_NAME,
-                COLUMNS.ORDINAL_POSITION,
-
-                // [#2230] [#11733] Translate INTERVAL_TYPE to supported types
-                when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
-                .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
-                .else_(Tables.COLUMNS.DATA_TYPE).as(COLUMNS.TYPE_NAME),
-                COLUMNS.CHARACTER_MAXIMUM_LENGTH,
-                coalesce(
-                    COLUMNS.DATETIME_PRECISION.coerce(COLUMNS.NUMERIC_PRECISION),
-                    COLUMNS.NUMERIC_PRECISION).as(COLUMNS.NUMERIC_PRECISION),
-                COLUMNS.NUMERIC_SCALE,
-                COLUMNS.IS_NULLABLE,
-                Tables.COLUMNS.IS_GENERATED.eq(inline("ALWAYS")).as(COLUMNS.IS_COMPUTED),
-                Tables.COLUMNS.GENERATION_EXPRESSION,
-                COLUMNS.COLUMN_DEFAULT,
-                COLUMNS.REMARKS,
-                Tables.COLUMNS.IS_IDENTITY.eq(inline("YES")).as(Tables.COLUMNS.IS_IDENTITY),
-                COLUMNS.DOMAIN_SCHEMA,
-                COLUMNS.DOMAIN_NAME,
-                Tables.COLUMNS.DTD_IDENTIFIER
-            )
-            .from(COLUMNS)
-            .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(COLUMNS.TABLE_NAME.equal(getName()))
-            .and(!getDatabase().getIncludeInvisibleColumns()
-                ? condition(COLUMNS.IS_VISIBLE.coerce(BOOLEAN))
-                : noCondition())
-            .orderBy(COLUMNS.ORDINAL_POSITION)
-        ) {
+        for (Record record : columnRecords(() -> columns2_0(db,
+                COLUMNS.TABLE_SCHEMA.equal(getSchema().getName())
+                .and(COLUMNS.TABLE_NAME.equal(getName()))
+            ))) {
 
             // [#5331] AUTO_INCREMENT (MySQL style)
             // [#5331] DEFAULT nextval('sequence') (PostgreSQL style)
@@ -190,52 +158,60 @@ public class H2TableDefinition extends AbstractTableDefinition {
         return result;
     }
 
-    public List<ColumnDefinition> getElements1_4() {
-        List<ColumnDefinition> result = new ArrayList<>();
-
-        // [#7206] H2 defaults to these precision/scale values when a DECIMAL/NUMERIC type
-        //         does not have any precision/scale. What works in H2 works in almost no
-        //         other database, which is relevant when using the DDLDatabase for instance,
-        //         which is based on the H2Database
-        Param<Long> maxP = inline(65535L);
-        Param<Long> maxS = inline(32767L);
-
-        H2Database db = (H2Database) getDatabase();
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns2_0(H2Database db, Condition condition) {
 
-        for (Record record : create().select(
+        // [#252] While recursing on ELEMENT_TYPES to detect multi dimensional
+        //        arrays looks like the cleanest approach, H2's recursive SQL
+        //        has been troubled by a ton of bugs in the past. Hard-coded
+        //        left joins are an ugly option, which is why we opt for doing
+        //        this calculation in Java, for once.
+        //        See also: https://github.com/jOOQ/jOOQ/issues/252#issuecomment-1240484853
+        return db.create().select(
+                COLUMNS.TABLE_SCHEMA,
+                COLUMNS.TABLE_NAME,
                 COLUMNS.COLUMN_NAME,
                 COLUMNS.ORDINAL_POSITION,
 
                 // [#2230] [#11733] Translate INTERVAL_TYPE to supported types
-                (db.is1_4_198()
-                    ? (when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
-                      .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
-                      .else_(COLUMNS.TYPE_NAME))
-                    : COLUMNS.TYPE_NAME
-                ).as(COLUMNS.TYPE_NAME),
-                choose().when(COLUMNS.NUMERIC_PRECISION.eq(maxP).and(COLUMNS.NUMERIC_SCALE.eq(maxS)), inline(0L))
-                        .otherwise(COLUMNS.CHARACTER_MAXIMUM_LENGTH).as(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
-                COLUMNS.NUMERIC_PRECISION.decode(maxP, inline(0L), COLUMNS.NUMERIC_PRECISION).as(COLUMNS.NUMERIC_PRECISION),
-                COLUMNS.NUMERIC_SCALE.decode(maxS, inline(0L), COLUMNS.NUMERIC_SCALE).as(COLUMNS.NUMERIC_SCALE),
+                when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
+                .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
+                .else_(Tables.COLUMNS.DATA_TYPE).as(COLUMNS.TYPE_NAME),
+                COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+                coalesce(
+                    COLUMNS.DATETIME_PRECISION.coerce(COLUMNS.NUMERIC_PRECISION),
+                    COLUMNS.NUMERIC_PRECISION).as(COLUMNS.NUMERIC_PRECISION),
+                COLUMNS.NUMERIC_SCALE,
                 COLUMNS.IS_NULLABLE,
-                COLUMNS.IS_COMPUTED.as(COLUMNS.IS_COMPUTED),
-                COLUMNS.COLUMN_DEFAULT.as("GENERATION_EXPRESSION"),
+                Tables.COLUMNS.IS_GENERATED.eq(inline("ALWAYS")).as(COLUMNS.IS_COMPUTED),
+                Tables.COLUMNS.GENERATION_EXPRESSION,
                 COLUMNS.COLUMN_DEFAULT,
                 COLUMNS.REMARKS,
-                COLUMNS.SEQUENCE_NAME.isNotNull().as("IS_IDENTITY"),
-                db.is1_4_198() ? COLUMNS.DOMAIN_SCHEMA : inline("").as(COLUMNS.DOMAIN_SCHEMA),
-                db.is1_4_198() ? COLUMNS.DOMAIN_NAME : inline("").as(COLUMNS.DOMAIN_NAME)
+                Tables.COLUMNS.IS_IDENTITY.eq(inline("YES")).as(Tables.COLUMNS.IS_IDENTITY),
+                COLUMNS.DOMAIN_SCHEMA,
+                COLUMNS.DOMAIN_NAME,
+                Tables.COLUMNS.DTD_IDENTIFIER
             )
             .from(COLUMNS)
-            .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(COLUMNS.TABLE_NAME.equal(getName()))
-            .and(!getDatabase().getIncludeInvisibleColumns()
-                ? db.is1_4_198()
-                    ? COLUMNS.IS_VISIBLE.eq(inline("TRUE"))
-                    : COLUMNS.COLUMN_TYPE.notLike(inline("%INVISIBLE%"))
+            .where(condition)
+            .and(!db.getIncludeInvisibleColumns()
+                ? condition(COLUMNS.IS_VISIBLE.coerce(BOOLEAN))
                 : noCondition())
-            .orderBy(COLUMNS.ORDINAL_POSITION)
-        ) {
+            .orderBy(COLUMNS.ORDINAL_POSITION);
+    }
+
+    public List<ColumnDefinition> getElements1_4() {
+        List<ColumnDefinition> result = new ArrayList<>();
+
+        H2Database db = (H2Database) getDatabase();
+
+        for (Record record : columnRecords(() -> columns1_4(db,
+                COLUMNS.TABLE_SCHEMA.equal(getSchema().getName())
+                .and(COLUMNS.TABLE_NAME.equal(getName()))
+            ))) {
 
             // [#5331] AUTO_INCREMENT (MySQL style)
             // [#5331] DEFAULT nextval('sequence') (PostgreSQL style)
@@ -282,4 +258,53 @@ public class H2TableDefinition extends AbstractTableDefinition {
 
         return result;
     }
+
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns1_4(H2Database db, Condition condition) {
+
+        // [#7206] H2 defaults to these precision/scale values when a DECIMAL/NUMERIC type
+        //         does not have any precision/scale. What works in H2 works in almost no
+        //         other database, which is relevant when using the DDLDatabase for instance,
+        //         which is based on the H2Database
+        Param<Long> maxP = inline(65535L);
+        Param<Long> maxS = inline(32767L);
+
+        return db.create().select(
+                COLUMNS.TABLE_SCHEMA,
+                COLUMNS.TABLE_NAME,
+                COLUMNS.COLUMN_NAME,
+                COLUMNS.ORDINAL_POSITION,
+
+                // [#2230] [#11733] Translate INTERVAL_TYPE to supported types
+                (db.is1_4_198()
+                    ? (when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
+                      .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
+                      .else_(COLUMNS.TYPE_NAME))
+                    : COLUMNS.TYPE_NAME
+                ).as(COLUMNS.TYPE_NAME),
+                choose().when(COLUMNS.NUMERIC_PRECISION.eq(maxP).and(COLUMNS.NUMERIC_SCALE.eq(maxS)), inline(0L))
+                        .otherwise(COLUMNS.CHARACTER_MAXIMUM_LENGTH).as(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
+                COLUMNS.NUMERIC_PRECISION.decode(maxP, inline(0L), COLUMNS.NUMERIC_PRECISION).as(COLUMNS.NUMERIC_PRECISION),
+                COLUMNS.NUMERIC_SCALE.decode(maxS, inline(0L), COLUMNS.NUMERIC_SCALE).as(COLUMNS.NUMERIC_SCALE),
+                COLUMNS.IS_NULLABLE,
+                COLUMNS.IS_COMPUTED.as(COLUMNS.IS_COMPUTED),
+                COLUMNS.COLUMN_DEFAULT.as("GENERATION_EXPRESSION"),
+                COLUMNS.COLUMN_DEFAULT,
+                COLUMNS.REMARKS,
+                COLUMNS.SEQUENCE_NAME.isNotNull().as("IS_IDENTITY"),
+                db.is1_4_198() ? COLUMNS.DOMAIN_SCHEMA : inline("").as(COLUMNS.DOMAIN_SCHEMA),
+                db.is1_4_198() ? COLUMNS.DOMAIN_NAME : inline("").as(COLUMNS.DOMAIN_NAME)
+            )
+            .from(COLUMNS)
+            .where(condition)
+            .and(!db.getIncludeInvisibleColumns()
+                ? db.is1_4_198()
+                    ? COLUMNS.IS_VISIBLE.eq(inline("TRUE"))
+                    : COLUMNS.COLUMN_TYPE.notLike(inline("%INVISIBLE%"))
+                : noCondition())
+            .orderBy(COLUMNS.ORDINAL_POSITION);
+    }
 }
@@ -238,6 +238,11 @@ public class HSQLDBDatabase extends AbstractDatabase implements ResultQueryDatab
         }
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return HSQLDBTableDefinition.columns(this, COLUMNS.TABLE_SCHEMA.in(schemas));
+    }
+
     @Override
     public ResultQuery<Record6<String, String, String, String, String, Integer>> primaryKeys(List<String> schemas) {
         return keys(schemas, "PRIMARY KEY");
@@ -51,7 +51,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Condition;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TableOptions.TableType;
 import org.jooq.impl.DSL;
 import org.jooq.meta.AbstractTableDefinition;
@@ -78,7 +80,45 @@ public class HSQLDBTableDefinition extends AbstractTableDefinition {
 	public List<ColumnDefinition> getElements0() throws SQLException {
 		List<ColumnDefinition> result = new ArrayList<>();
 
-        for (Record record : create().select(
+        for (Record record : columnRecords(() -> columns((HSQLDBDatabase) getDatabase(),
+                COLUMNS.TABLE_SCHEMA.equal(getSchema().getName())
+                .and(COLUMNS.TABLE_NAME.equal(getName()))
+            ))) {
+            String generated = record.get(COLUMNS.GENERATION_EXPRESSION);
+
+            DataTypeDefinition type = new DefaultDataTypeDefinition(
+                getDatabase(),
+                getSchema(),
+                record.get(COLUMNS.DATA_TYPE),
+                record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
+                record.get(COLUMNS.NUMERIC_PRECISION),
+                record.get(COLUMNS.NUMERIC_SCALE),
+                record.get(COLUMNS.IS_NULLABLE, boolean.class),
+                generated != null ? null : record.get(COLUMNS.COLUMN_DEFAULT),
+                DSL.name(record.get(COLUMNS.UDT_SCHEMA), record.get(COLUMNS.UDT_NAME))
+            ).generatedAlwaysAs(generated);
+
+            result.add(new DefaultColumnDefinition(
+			    getDatabase().getTable(getSchema(), getName()),
+			    record.get(COLUMNS.COLUMN_NAME),
+                result.size() + 1,
+			    type,
+			    null != record.get(COLUMNS.IDENTITY_GENERATION),
+			    record.get(SYSTEM_COLUMNS.REMARKS)
+		    ));
+		}
+
+		return result;
+	}
+
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns(HSQLDBDatabase database, Condition condition) {
+        return database.create().select(
+                COLUMNS.TABLE_SCHEMA,
+                COLUMNS.TABLE_NAME,
                 COLUMNS.COLUMN_NAME,
                 COLUMNS.ORDINAL_POSITION,
                 nvl(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER,
@@ -113,34 +153,7 @@ public class HSQLDBTableDefinition extends AbstractTableDefinition {
                     .on(COLUMNS.TABLE_SCHEMA.equal(ELEMENT_TYPES.OBJECT_SCHEMA))
                     .and(COLUMNS.TABLE_NAME.equal(ELEMENT_TYPES.OBJECT_NAME))
                     .and(COLUMNS.DTD_IDENTIFIER.equal(ELEMENT_TYPES.COLLECTION_TYPE_IDENTIFIER))
-            .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-                .and(COLUMNS.TABLE_NAME.equal(getName()))
-            .orderBy(COLUMNS.ORDINAL_POSITION)
-        ) {
-            String generated = record.get(COLUMNS.GENERATION_EXPRESSION);
-
-            DataTypeDefinition type = new DefaultDataTypeDefinition(
-                getDatabase(),
-                getSchema(),
-                record.get(COLUMNS.DATA_TYPE),
-                record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
-                record.get(COLUMNS.NUMERIC_PRECISION),
-                record.get(COLUMNS.NUMERIC_SCALE),
-                record.get(COLUMNS.IS_NULLABLE, boolean.class),
-                generated != null ? null : record.get(COLUMNS.COLUMN_DEFAULT),
-                DSL.name(record.get(COLUMNS.UDT_SCHEMA), record.get(COLUMNS.UDT_NAME))
-            ).generatedAlwaysAs(generated);
-
-            result.add(new DefaultColumnDefinition(
-			    getDatabase().getTable(getSchema(), getName()),
-			    record.get(COLUMNS.COLUMN_NAME),
-                result.size() + 1,
-			    type,
-			    null != record.get(COLUMNS.IDENTITY_GENERATION),
-			    record.get(SYSTEM_COLUMNS.REMARKS)
-		    ));
-		}
-
-		return result;
-	}
+            .where(condition)
+            .orderBy(COLUMNS.ORDINAL_POSITION);
+    }
 }
@@ -169,6 +169,8 @@ public class Database implements Serializable, XMLAppendable
     protected Boolean tableValuedFunctions;
     @XmlElement(defaultValue = "false")
     protected Boolean oracleUseDBAViews = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean bulkLoadColumns = false;
     @XmlElement(defaultValue = "5")
     protected Integer logSlowQueriesAfterSeconds = 5;
     @XmlElement(defaultValue = "5")
@@ -1897,6 +1899,32 @@ public class Database implements Serializable, XMLAppendable
         this.oracleUseDBAViews = value;
     }
 
+    /**
+     * Whether the columns of all tables should be loaded in bulk, using a single query per database, rather than using one query per table.
+     * <p>
+     * This is supported by Derby, H2, HSQLDB, MariaDB, MySQL, PostgreSQL, SQLite, and ignored by other dialects.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isBulkLoadColumns() {
+        return bulkLoadColumns;
+    }
+
+    /**
+     * Sets the value of the bulkLoadColumns property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setBulkLoadColumns(Boolean value) {
+        this.bulkLoadColumns = value;
+    }
+
     /**
      * The number of seconds that are considered "slow" before a query is logged to indicate a bug, 0 for not logging.
      * 
@@ -2639,6 +2667,11 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    public Database withBulkLoadColumns(Boolean value) {
+        setBulkLoadColumns(value);
+        return this;
+    }
+
     /**
      * The number of seconds that are considered "slow" before a query is logged to indicate a bug, 0 for not logging.
      * 
@@ -2896,6 +2929,7 @@ public class Database implements Serializable, XMLAppendable
         builder.append("forceIntegerTypesOnZeroScaleDecimals", forceIntegerTypesOnZeroScaleDecimals);
         builder.append("tableValuedFunctions", tableValuedFunctions);
         builder.append("oracleUseDBAViews", oracleUseDBAViews);
+        builder.append("bulkLoadColumns", bulkLoadColumns);
         builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
         builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
         builder.append("properties", "property", properties);
@@ -3494,6 +3528,15 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (bulkLoadColumns == null) {
+            if (other.bulkLoadColumns!= null) {
+                return false;
+            }
+        } else {
+            if (!bulkLoadColumns.equals(other.bulkLoadColumns)) {
+                return false;
+            }
+        }
         if (logSlowQueriesAfterSeconds == null) {
             if (other.logSlowQueriesAfterSeconds!= null) {
                 return false;
@@ -3654,6 +3697,7 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((forceIntegerTypesOnZeroScaleDecimals == null)? 0 :forceIntegerTypesOnZeroScaleDecimals.hashCode()));
         result = ((prime*result)+((tableValuedFunctions == null)? 0 :tableValuedFunctions.hashCode()));
         result = ((prime*result)+((oracleUseDBAViews == null)? 0 :oracleUseDBAViews.hashCode()));
+        result = ((prime*result)+((bulkLoadColumns == null)? 0 :bulkLoadColumns.hashCode()));
         result = ((prime*result)+((logSlowQueriesAfterSeconds == null)? 0 :logSlowQueriesAfterSeconds.hashCode()));
         result = ((prime*result)+((logSlowResultsAfterSeconds == null)? 0 :logSlowResultsAfterSeconds.hashCode()));
         result = ((prime*result)+((properties == null)? 0 :properties.hashCode()));
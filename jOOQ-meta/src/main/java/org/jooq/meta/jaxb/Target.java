@@ -42,6 +42,10 @@ public class Target implements Serializable, XMLAppendable
     protected String locale;
     @XmlElement(defaultValue = "true")
     protected Boolean clean = true;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
 
     /**
      * The destination package of your generated classes (within the destination directory)
@@ -137,6 +141,46 @@ public class Target implements Serializable, XMLAppendable
         this.clean = value;
     }
 
+    /**
+     * The number of threads used to finalise and write generated files. Values of 1 or less write files on the generating thread.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to finalise and write generated files. Values of 1 or less write files on the generating thread.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether a manifest of fingerprints of generated files should be kept in the target directory, to avoid reading back unchanged files in subsequent generation runs.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     /**
      * The destination package of your generated classes (within the destination directory)
      * <p>
@@ -181,6 +225,20 @@ public class Target implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to finalise and write generated files. Values of 1 or less write files on the generating thread.
+     * 
+     */
+    public Target withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    public Target withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("packageName", packageName);
@@ -188,6 +246,8 @@ public class Target implements Serializable, XMLAppendable
         builder.append("encoding", encoding);
         builder.append("locale", locale);
         builder.append("clean", clean);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
     }
 
     @Override
@@ -254,6 +314,24 @@ public class Target implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -266,6 +344,8 @@ public class Target implements Serializable, XMLAppendable
         result = ((prime*result)+((encoding == null)? 0 :encoding.hashCode()));
         result = ((prime*result)+((locale == null)? 0 :locale.hashCode()));
         result = ((prime*result)+((clean == null)? 0 :clean.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         return result;
     }
 
@@ -262,6 +262,11 @@ public class MySQLDatabase extends AbstractDatabase implements ResultQueryDataba
         return is8_0_16;
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return MySQLTableDefinition.columns(this, COLUMNS.TABLE_SCHEMA.in(workaroundFor5213(schemas)));
+    }
+
     @Override
     public ResultQuery<Record6<String, String, String, String, String, Integer>> primaryKeys(List<String> schemas) {
         return keys(schemas, true);
@@ -51,8 +51,10 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TableOptions.TableType;
 import org.jooq.impl.QOM.GenerationOption;
 import org.jooq.meta.AbstractTableDefinition;
@@ -82,39 +84,13 @@ public class MySQLTableDefinition extends AbstractTableDefinition {
     public List<ColumnDefinition> getElements0() throws SQLException {
         List<ColumnDefinition> result = new ArrayList<>();
         MySQLDatabase database = (MySQLDatabase) getDatabase();
-        Field<String> generationExpression = COLUMNS.GENERATION_EXPRESSION;
-
-
-
 
+        for (Record record : columnRecords(() -> columns(database,
 
-        for (Record record : create().select(
-                    COLUMNS.ORDINAL_POSITION,
-                    COLUMNS.COLUMN_NAME,
-                    COLUMNS.COLUMN_COMMENT,
-                    COLUMNS.COLUMN_TYPE,
-                    COLUMNS.DATA_TYPE,
-                    COLUMNS.IS_NULLABLE,
-                    COLUMNS.COLUMN_DEFAULT,
-                    COLUMNS.EXTRA,
-                    generationExpression,
-                    COLUMNS.CHARACTER_MAXIMUM_LENGTH,
-
-                    // [#10856] Some older versions of MySQL 5.7 don't have the DATETIME_PRECISION column yet
-                    getDatabase().exists(COLUMNS.DATETIME_PRECISION)
-                        ? coalesce(COLUMNS.NUMERIC_PRECISION, COLUMNS.DATETIME_PRECISION).as(COLUMNS.NUMERIC_PRECISION)
-                        : COLUMNS.NUMERIC_PRECISION,
-                    COLUMNS.NUMERIC_SCALE,
-                    COLUMNS.EXTRA)
-                .from(COLUMNS)
                 // [#5213] Duplicate schema value to work around MySQL issue https://bugs.mysql.com/bug.php?id=86022
-                .where(COLUMNS.TABLE_SCHEMA.in(getSchema().getName(), getSchema().getName()))
+                COLUMNS.TABLE_SCHEMA.in(getSchema().getName(), getSchema().getName())
                 .and(COLUMNS.TABLE_NAME.equal(getName()))
-                .and(getDatabase().getIncludeInvisibleColumns()
-                    ? noCondition()
-                    : COLUMNS.EXTRA.notLike("%INVISIBLE%"))
-                .orderBy(COLUMNS.ORDINAL_POSITION)
-        ) {
+            ))) {
 
             String dataType = record.get(COLUMNS.DATA_TYPE);
 
@@ -185,4 +161,43 @@ public class MySQLTableDefinition extends AbstractTableDefinition {
 
         return result;
     }
+
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns(MySQLDatabase database, Condition condition) {
+        Field<String> generationExpression = COLUMNS.GENERATION_EXPRESSION;
+
+
+
+
+
+        return database.create().select(
+                    COLUMNS.TABLE_SCHEMA,
+                    COLUMNS.TABLE_NAME,
+                    COLUMNS.ORDINAL_POSITION,
+                    COLUMNS.COLUMN_NAME,
+                    COLUMNS.COLUMN_COMMENT,
+                    COLUMNS.COLUMN_TYPE,
+                    COLUMNS.DATA_TYPE,
+                    COLUMNS.IS_NULLABLE,
+                    COLUMNS.COLUMN_DEFAULT,
+                    COLUMNS.EXTRA,
+                    generationExpression,
+                    COLUMNS.CHARACTER_MAXIMUM_LENGTH,
+
+                    // [#10856] Some older versions of MySQL 5.7 don't have the DATETIME_PRECISION column yet
+                    database.exists(COLUMNS.DATETIME_PRECISION)
+                        ? coalesce(COLUMNS.NUMERIC_PRECISION, COLUMNS.DATETIME_PRECISION).as(COLUMNS.NUMERIC_PRECISION)
+                        : COLUMNS.NUMERIC_PRECISION,
+                    COLUMNS.NUMERIC_SCALE,
+                    COLUMNS.EXTRA)
+                .from(COLUMNS)
+                .where(condition)
+                .and(database.getIncludeInvisibleColumns()
+                    ? noCondition()
+                    : COLUMNS.EXTRA.notLike("%INVISIBLE%"))
+                .orderBy(COLUMNS.ORDINAL_POSITION);
+    }
 }
@@ -326,6 +326,11 @@ public class PostgresDatabase extends AbstractDatabase implements ResultQueryDat
         }
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return PostgresTableDefinition.columns(this, COLUMNS.TABLE_SCHEMA.in(schemas));
+    }
+
     @Override
     public ResultQuery<Record6<String, String, String, String, String, Integer>> primaryKeys(List<String> schemas) {
         return keys(schemas, inline("p"));
@@ -47,6 +47,7 @@ import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.lower;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.nvl;
+import static org.jooq.impl.DSL.partitionBy;
 import static org.jooq.impl.DSL.substring;
 import static org.jooq.impl.DSL.when;
 import static org.jooq.meta.postgres.information_schema.Tables.COLUMNS;
@@ -61,6 +62,7 @@ import java.util.List;
 import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TableOptions.TableType;
 import org.jooq.impl.DSL;
 import org.jooq.impl.QOM.GenerationOption;
@@ -87,8 +89,62 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
     @Override
     public List<ColumnDefinition> getElements0() throws SQLException {
         List<ColumnDefinition> result = new ArrayList<>();
-
         PostgresDatabase database = (PostgresDatabase) getDatabase();
+
+        for (Record record : columnRecords(() -> columns(database,
+                COLUMNS.TABLE_SCHEMA.equal(getSchema().getName())
+                .and(COLUMNS.TABLE_NAME.equal(getName()))
+            ))) {
+
+            SchemaDefinition typeSchema = null;
+
+            String schemaName = record.get(COLUMNS.UDT_SCHEMA);
+            if (schemaName != null)
+                typeSchema = getDatabase().getSchema(schemaName);
+
+            DataTypeDefinition type = new DefaultDataTypeDefinition(
+                getDatabase(),
+                typeSchema,
+                record.get(COLUMNS.DATA_TYPE),
+                record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
+                record.get(COLUMNS.NUMERIC_PRECISION),
+                record.get(COLUMNS.NUMERIC_SCALE),
+                record.get(COLUMNS.IS_NULLABLE, boolean.class),
+                record.get(COLUMNS.COLUMN_DEFAULT),
+                name(
+                    record.get(COLUMNS.UDT_SCHEMA),
+                    record.get(COLUMNS.UDT_NAME)
+                )
+            )
+                .generatedAlwaysAs(record.get(COLUMNS.GENERATION_EXPRESSION))
+                .generationOption(
+                    "s".equals(record.get(PG_ATTRIBUTE.ATTGENERATED))
+                  ? GenerationOption.STORED
+                  : "v".equals(record.get(PG_ATTRIBUTE.ATTGENERATED))
+                  ? GenerationOption.VIRTUAL
+                  : null
+                );
+
+            ColumnDefinition column = new DefaultColumnDefinition(
+                getDatabase().getTable(getSchema(), getName()),
+                record.get(COLUMNS.COLUMN_NAME),
+                record.get(COLUMNS.ORDINAL_POSITION, int.class),
+                type,
+                record.get(COLUMNS.IS_IDENTITY, boolean.class),
+                record.get(PG_DESCRIPTION.DESCRIPTION)
+            );
+
+            result.add(column);
+        }
+
+        return result;
+    }
+
+    /**
+     * The columns of all tables matching a condition, starting with the table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns(PostgresDatabase database, Condition condition) {
         Field<String> dataType =
             when(COLUMNS.INTERVAL_TYPE.like(any(inline("%YEAR%"), inline("%MONTH%"))), inline("INTERVAL YEAR TO MONTH"))
             .when(COLUMNS.INTERVAL_TYPE.like(any(inline("%DAY%"), inline("%HOUR%"), inline("%MINUTE%"), inline("%SECOND%"))), inline("INTERVAL DAY TO SECOND"))
@@ -157,13 +213,16 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
         Condition isIdentity10 = COLUMNS.IS_IDENTITY.eq(inline("YES"));
 
         // [#9200] only use COLUMN_DEFAULT for ColumnDefinition#isIdentity() if
-        // table has no column with IS_IDENTITY = 'YES'
+        // table has no column with IS_IDENTITY = 'YES'. The window is
+        // partitioned by table, as the query may fetch several tables at once
         Condition isIdentity =
               database.is10()
-            ? isIdentity10.or(count().filterWhere(isIdentity10).over().eq(inline(0)).and(isSerial))
+            ? isIdentity10.or(count().filterWhere(isIdentity10).over(partitionBy(COLUMNS.TABLE_SCHEMA, COLUMNS.TABLE_NAME)).eq(inline(0)).and(isSerial))
             : isSerial;
 
-        for (Record record : create().select(
+        return database.create().select(
+                COLUMNS.TABLE_SCHEMA,
+                COLUMNS.TABLE_NAME,
                 COLUMNS.COLUMN_NAME,
                 COLUMNS.ORDINAL_POSITION,
                 dataType.as(COLUMNS.DATA_TYPE),
@@ -192,54 +251,10 @@ public class PostgresTableDefinition extends AbstractTableDefinition {
             .leftJoin(PG_DESCRIPTION)
                 .on(PG_DESCRIPTION.OBJOID.eq(PG_ATTRIBUTE.ATTRELID))
                 .and(PG_DESCRIPTION.OBJSUBID.eq(COLUMNS.ORDINAL_POSITION))
-            .where(COLUMNS.TABLE_SCHEMA.equal(getSchema().getName()))
-            .and(COLUMNS.TABLE_NAME.equal(getName()))
-
+            .where(condition)
 
 
-            .orderBy(COLUMNS.ORDINAL_POSITION)) {
-
-            SchemaDefinition typeSchema = null;
-
-            String schemaName = record.get(COLUMNS.UDT_SCHEMA);
-            if (schemaName != null)
-                typeSchema = getDatabase().getSchema(schemaName);
 
-            DataTypeDefinition type = new DefaultDataTypeDefinition(
-                getDatabase(),
-                typeSchema,
-                record.get(COLUMNS.DATA_TYPE),
-                record.get(COLUMNS.CHARACTER_MAXIMUM_LENGTH),
-                record.get(COLUMNS.NUMERIC_PRECISION),
-                record.get(COLUMNS.NUMERIC_SCALE),
-                record.get(COLUMNS.IS_NULLABLE, boolean.class),
-                record.get(COLUMNS.COLUMN_DEFAULT),
-                name(
-                    record.get(COLUMNS.UDT_SCHEMA),
-                    record.get(COLUMNS.UDT_NAME)
-                )
-            )
-                .generatedAlwaysAs(record.get(COLUMNS.GENERATION_EXPRESSION))
-                .generationOption(
-                    "s".equals(record.get(PG_ATTRIBUTE.ATTGENERATED))
-                  ? GenerationOption.STORED
-                  : "v".equals(record.get(PG_ATTRIBUTE.ATTGENERATED))
-                  ? GenerationOption.VIRTUAL
-                  : null
-                );
-
-            ColumnDefinition column = new DefaultColumnDefinition(
-                getDatabase().getTable(getSchema(), getName()),
-                record.get(COLUMNS.COLUMN_NAME),
-                record.get(COLUMNS.ORDINAL_POSITION, int.class),
-                type,
-                record.get(COLUMNS.IS_IDENTITY, boolean.class),
-                record.get(PG_DESCRIPTION.DESCRIPTION)
-            );
-
-            result.add(column);
-        }
-
-        return result;
+            .orderBy(COLUMNS.ORDINAL_POSITION);
     }
 }
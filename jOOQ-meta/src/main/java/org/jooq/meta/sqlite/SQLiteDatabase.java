@@ -73,6 +73,7 @@ import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
@@ -361,6 +362,11 @@ public class SQLiteDatabase extends AbstractDatabase {
         return result;
     }
 
+    @Override
+    protected ResultQuery<? extends Record> columns(List<String> schemas) {
+        return SQLiteTableDefinition.columns(this);
+    }
+
     @Override
     protected List<SchemaDefinition> getSchemata0() throws SQLException {
         List<SchemaDefinition> result = new ArrayList<>();
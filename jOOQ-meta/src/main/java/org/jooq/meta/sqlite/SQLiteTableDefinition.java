@@ -55,6 +55,7 @@ import org.jooq.Configuration;
 import org.jooq.Field;
 import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.TableOptions.TableType;
 import org.jooq.exception.DataDefinitionException;
@@ -119,14 +120,14 @@ public class SQLiteTableDefinition extends AbstractTableDefinition {
         Field<Integer> fPk = field(name("pk"), int.class);
         Field<Integer> fHidden = field(name("hidden"), int.class);
 
-        for (Record record : create()
+        for (Record record : columnRecords(() -> create()
             .select(fName, fType, fNotnull, fDefaultValue, fPk, fHidden)
             .from("pragma_table_xinfo({0})", inline(getName()))
             // 0 = ordinary column
             // 2 = generated column (virtual)
             // 3 = generated column (stored)
             .where("hidden in (0, 2, 3)")
-        ) {
+        )) {
 
             String name = record.get(fName);
             String dataType = record.get(fType)
@@ -216,6 +217,30 @@ public class SQLiteTableDefinition extends AbstractTableDefinition {
         return result;
     }
 
+    /**
+     * The columns of all tables and views, starting with the (empty) table
+     * schema and table name.
+     */
+    static ResultQuery<? extends Record> columns(SQLiteDatabase database) {
+        return database.create()
+            .select(
+                inline("").as("table_schema"),
+                SQLiteMaster.NAME.as("table_name"),
+                field(name("p", "name"), String.class).as("name"),
+                field(name("p", "type"), String.class).as("type"),
+                field(name("p", "notnull"), boolean.class).as("notnull"),
+                field(name("p", "dflt_value"), String.class).as("dflt_value"),
+                field(name("p", "pk"), int.class).as("pk"),
+                field(name("p", "hidden"), int.class).as("hidden"))
+            .from("{0}, pragma_table_xinfo({1}) as {2}", SQLITE_MASTER, SQLiteMaster.NAME, name("p"))
+            .where(SQLiteMaster.TYPE.in(inline("table"), inline("view")))
+            // 0 = ordinary column
+            // 2 = generated column (virtual)
+            // 3 = generated column (stored)
+            .and("{0} in (0, 2, 3)", name("p", "hidden"))
+            .orderBy(SQLiteMaster.NAME, field(name("p", "cid")));
+    }
+
     private boolean existsSqliteSequence() {
         if (existsSqliteSequence == null) {
             existsSqliteSequence = create()
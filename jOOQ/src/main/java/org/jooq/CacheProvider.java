@@ -61,6 +61,9 @@ public interface CacheProvider {
      * {@link Collections#synchronizedMap(Map)}.
      * <p>
      * A <code>null</code> cache effectively turns off caching for the key.
+     * <p>
+     * Maps that implement {@link CacheStatistics} expose their statistics via
+     * {@link CacheType#statistics(Configuration)}.
      */
     @Nullable
     Map<Object, Object> provide(CacheContext context);
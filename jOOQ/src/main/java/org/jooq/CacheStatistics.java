@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.impl.CacheType;
+
+/**
+ * Statistics about a cache provided by a {@link CacheProvider}.
+ * <p>
+ * The caches produced by the default {@link CacheProvider} implement this
+ * interface, and can be inspected using
+ * {@link CacheType#statistics(Configuration)}.
+ *
+ * @author Lukas Eder
+ */
+public interface CacheStatistics {
+
+    /**
+     * The number of lookups that found a cached value.
+     */
+    long hits();
+
+    /**
+     * The number of lookups that did not find a cached value.
+     */
+    long misses();
+
+    /**
+     * The number of values that were evicted from the cache to respect its
+     * {@link #capacity()}.
+     */
+    long evictions();
+
+    /**
+     * The current number of cached values.
+     */
+    int size();
+
+    /**
+     * The maximum number of cached values, or {@link Integer#MAX_VALUE} if the
+     * cache is unbounded.
+     */
+    int capacity();
+}
@@ -1593,8 +1593,12 @@ public interface Configuration extends Serializable {
      * Create a derived configuration from this one, with appended execute
      * listeners.
      * <p>
-     * This will wrap the argument {@link ExecuteListener} in a
-     * {@link DefaultExecuteListenerProvider} for convenience.
+     * This will wrap the argument {@link ExecuteListener} in an
+     * {@link ExecuteListenerProvider} for convenience. Unlike
+     * {@link DefaultExecuteListenerProvider}, that provider is not a
+     * {@link ExecuteListenerProvider#singleton()}, as derived configurations
+     * are often created for a single call, so the resolved listeners of the
+     * derived configuration are not cached.
      *
      * @param newExecuteListeners The appended execute listener to be contained
      *            in the derived configuration.
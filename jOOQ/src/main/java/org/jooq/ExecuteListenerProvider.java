@@ -37,6 +37,7 @@
  */
 package org.jooq;
 
+import org.jooq.conf.Settings;
 import org.jooq.impl.DefaultExecuteListenerProvider;
 
 import org.jetbrains.annotations.NotNull;
@@ -74,4 +75,20 @@ public interface ExecuteListenerProvider {
      */
     @NotNull
     ExecuteListener provide();
+
+    /**
+     * Whether this provider always provides the same stateless or thread safe
+     * <code>ExecuteListener</code> instance.
+     * <p>
+     * If all of a {@link Configuration}'s providers are singletons, jOOQ may
+     * cache the provided instances across query executions, instead of
+     * calling {@link #provide()} once per <code>ExecuteContext</code>.
+     *
+     * @return Whether this provider is a singleton. The default is
+     *         <code>false</code>.
+     * @see Settings#isCacheExecuteListeners()
+     */
+    default boolean singleton() {
+        return false;
+    }
 }
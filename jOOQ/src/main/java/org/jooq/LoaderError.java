@@ -69,6 +69,12 @@ public interface LoaderError {
      * <p>
      * If queries were executed in batch mode, this will be the last row added
      * to the batch.
+     * <p>
+     * When loading CSV content without any {@link LoaderRowListener}, values
+     * may already have been converted to the types of the target fields
+     * while reading. In that case, this contains the string representation of
+     * the converted values, e.g. <code>"7"</code> for an input of
+     * <code>"007"</code>.
      */
     String[] row();
 
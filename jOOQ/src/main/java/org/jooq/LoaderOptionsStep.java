@@ -341,4 +341,67 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load rows using a given number of concurrent workers, each on its own
+     * connection obtained from this loader's {@link Configuration}.
+     * <p>
+     * This is the same as calling {@link #parallelism(int, ConnectionProvider)}
+     * with {@link Configuration#connectionProvider()}, which therefore has to
+     * be able to provide several connections at the same time, e.g. a
+     * {@link org.jooq.impl.DataSourceConnectionProvider}.
+     *
+     * @param number The number of workers. Values of <code>1</code> or less
+     *            load all rows serially on a single connection, which is the
+     *            default.
+     * @throws IllegalArgumentException If <code>number</code> is greater than
+     *             <code>1</code> and this loader's {@link Configuration} only
+     *             provides a single connection through a
+     *             {@link org.jooq.impl.DefaultConnectionProvider}.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
+
+    /**
+     * Load rows using a given number of concurrent workers, each on its own
+     * connection obtained from the argument {@link ConnectionProvider}.
+     * <p>
+     * Rows are read from the source by the calling thread and handed to the
+     * workers in chunks through a bounded queue, so reading blocks while all
+     * workers are busy. The workers run on an {@link java.util.concurrent.Executor}
+     * obtained from {@link Configuration#executorProvider()}. Each worker then applies the bulk, batch and commit
+     * options to the rows it receives:
+     * <ul>
+     * <li>{@link #commitEach()} and {@link #commitAfter(int)} commit each
+     * worker's connection after the given number of that worker's
+     * statements.</li>
+     * <li>{@link #commitAll()} commits all workers' connections once all rows
+     * are loaded, or rolls back all of them if there were any errors.</li>
+     * <li>{@link #onErrorAbort()} stops all workers after the first
+     * error.</li>
+     * </ul>
+     * <p>
+     * {@link LoaderRowListener} instances may be called concurrently by
+     * several workers. The {@link LoaderContext} passed to them reports the
+     * counts of the calling worker only, whereas {@link Loader#result()}
+     * reports the counts of all workers. The order in which rows are stored is
+     * undefined.
+     *
+     * @param number The number of workers. Values of <code>1</code> or less
+     *            load all rows serially on a single connection, which is the
+     *            default.
+     * @param provider The provider of the workers' connections.
+     * @throws IllegalArgumentException If <code>number</code> is greater than
+     *             <code>1</code> and <code>provider</code> is a
+     *             {@link org.jooq.impl.DefaultConnectionProvider}, which
+     *             provides only a single connection.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int number, ConnectionProvider provider);
 }
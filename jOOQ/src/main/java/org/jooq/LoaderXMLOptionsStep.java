@@ -35,27 +35,19 @@
  *
  *
  */
-package org.jooq.impl;
+package org.jooq;
+
+import org.jetbrains.annotations.*;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 /**
- * Simple non-thread safe LRUCache
+ * The <code>Loader</code> API is used for configuring data loads.
+ * <p>
+ * The step in constructing the {@link org.jooq.Loader} object where you can set the
+ * optional XML loader options.
  *
  * @author Lukas Eder
  */
-final class LRUCache<K, V> extends LinkedHashMap<K, V> {
-    private final int         size;
-
-    LRUCache(int size) {
-        super(size, 0.75f, true);
-
-        this.size = size;
-    }
+public interface LoaderXMLOptionsStep<R extends Record> extends LoaderListenerStep<R> {
 
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > size;
-    }
 }
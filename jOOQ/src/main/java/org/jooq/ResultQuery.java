@@ -170,6 +170,50 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @Blocking
     Result<R> fetch() throws DataAccessException;
 
+    /**
+     * Execute the query and return the generated result in a columnar
+     * representation.
+     * <p>
+     * This is useful for large results that are mostly read, e.g. for
+     * reporting or exporting purposes. Rather than keeping a {@link Record}
+     * per row, the returned {@link Result} keeps an array per column, using
+     * primitive arrays for {@link Boolean}, {@link Byte}, {@link Short},
+     * {@link Integer}, {@link Long}, {@link Float}, and {@link Double} typed
+     * columns. Methods like {@link Result#getValues(Field)},
+     * {@link Result#intoMap(Field, Field)},
+     * {@link Result#intoGroups(Field, Field)}, or
+     * {@link Result#formatCSV()} and {@link Result#formatJSON()} operate on
+     * the columns directly.
+     * <p>
+     * Operations that only read values from the result don't create any
+     * records that outlive the operation. Besides the above, these include
+     * {@link Result#getValue(int, Field)}, {@link Result#intoArrays()},
+     * {@link Result#intoMaps()}, {@link Result#into(Class)},
+     * {@link Result#into(Table)}, the other <code>formatXXX()</code> methods,
+     * and the <code>getValues()</code>, <code>intoArray()</code>,
+     * <code>intoSet()</code>, <code>intoMap()</code>, and
+     * <code>intoGroups()</code> overloads that produce values rather than the
+     * result's own records, unless they take a user defined
+     * {@link RecordMapper}.
+     * <p>
+     * All other access to the records, e.g. {@link Result#get(int)},
+     * {@link Result#iterator()}, {@link Result#stream()}, or
+     * {@link Result#map(RecordMapper)}, creates the records when they are
+     * first accessed, and retains them from then on, such that modifications
+     * to them are reflected in the result. Accessing all records in such a
+     * way thus eventually requires as much memory as {@link #fetch()}, so
+     * this method only pays off for workloads that mostly use the above
+     * operations.
+     * <p>
+     * The lifecycle guarantees are the same as those of {@link #fetch()}.
+     *
+     * @return The result. This will never be <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Blocking
+    Result<R> fetchColumnar() throws DataAccessException;
+
     /**
      * Execute the query and return the generated result as a JDBC
      * {@link ResultSet}.
@@ -358,12 +358,26 @@ public class Settings
     protected Boolean updatablePrimaryKeys = false;
     @XmlElement(defaultValue = "true")
     protected Boolean reflectionCaching = true;
+    @XmlElement(defaultValue = "0")
+    protected Integer reflectionCacheSize = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheRecordMappers = true;
+    @XmlElement(defaultValue = "0")
+    protected Integer cacheRecordMappersSize = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedSQL = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRenderedSQLLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheExecuteListeners = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheMetaSnapshot = false;
+    @XmlElement(defaultValue = "0")
+    protected Integer cacheMetaSnapshotTimeToLive = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -379,6 +393,8 @@ public class Settings
     protected Boolean returnAllOnUpdatableRecord = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnRecordToPojo = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean returnOnBatchUpdatableRecord = false;
     @XmlElement(defaultValue = "true")
     protected Boolean mapJPAAnnotations = true;
     @XmlElement(defaultValue = "false")
@@ -398,6 +414,16 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean executorVirtualThreads = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean blockingSubscriptionOffloading = false;
+    @XmlElement(defaultValue = "32")
+    protected Integer blockingSubscriptionPrefetch = 32;
+    @XmlElement(defaultValue = "0")
+    protected Integer reactiveBatchChunkSize = 0;
+    @XmlElement(defaultValue = "1")
+    protected Integer reactiveBatchChunksInFlight = 1;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
     @XmlElement(defaultValue = "true")
@@ -406,6 +432,8 @@ public class Settings
     protected Boolean inListPadding = false;
     @XmlElement(defaultValue = "2")
     protected Integer inListPadBase = 2;
+    @XmlElement(defaultValue = "false")
+    protected Boolean inListArrayBinding = false;
     @XmlElement(defaultValue = ";")
     protected String delimiter = ";";
     @XmlElement(defaultValue = "false")
@@ -4337,6 +4365,22 @@ public class Settings
         this.reflectionCaching = value;
     }
 
+    /**
+     * The maximum number of entries per reflection cache in the configuration, or 0 for unbounded caches.
+     * 
+     */
+    public Integer getReflectionCacheSize() {
+        return reflectionCacheSize;
+    }
+
+    /**
+     * The maximum number of entries per reflection cache in the configuration, or 0 for unbounded caches.
+     * 
+     */
+    public void setReflectionCacheSize(Integer value) {
+        this.reflectionCacheSize = value;
+    }
+
     /**
      * Whether record mappers should be cached in the configuration.
      * 
@@ -4361,6 +4405,22 @@ public class Settings
         this.cacheRecordMappers = value;
     }
 
+    /**
+     * The maximum number of record mappers cached in the configuration, or 0 for an unbounded cache.
+     * 
+     */
+    public Integer getCacheRecordMappersSize() {
+        return cacheRecordMappersSize;
+    }
+
+    /**
+     * The maximum number of record mappers cached in the configuration, or 0 for an unbounded cache.
+     * 
+     */
+    public void setCacheRecordMappersSize(Integer value) {
+        this.cacheRecordMappersSize = value;
+    }
+
     /**
      * Whether parsing connection translations should be cached in the configuration.
      * 
@@ -4401,6 +4461,118 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * Whether rendered SQL strings and their bind value extraction plans should be cached in the configuration, keyed by the structural fingerprint of the executed query.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedSQL() {
+        return cacheRenderedSQL;
+    }
+
+    /**
+     * Sets the value of the cacheRenderedSQL property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedSQL(Boolean value) {
+        this.cacheRenderedSQL = value;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheRenderedSQLLRUCacheSize() {
+        return cacheRenderedSQLLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public void setCacheRenderedSQLLRUCacheSize(Integer value) {
+        this.cacheRenderedSQLLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the resolved ExecuteListener chain should be cached per Configuration, if all ExecuteListenerProviders are singletons.
+     * <p>
+     * See {@link org.jooq.ExecuteListenerProvider#singleton()}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheExecuteListeners() {
+        return cacheExecuteListeners;
+    }
+
+    /**
+     * Sets the value of the cacheExecuteListeners property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheExecuteListeners(Boolean value) {
+        this.cacheExecuteListeners = value;
+    }
+
+    /**
+     * Whether the DefaultMetaProvider should provide a shared Meta snapshot instead of querying the JDBC DatabaseMetaData every time, e.g. for parser meta lookups.
+     * <p>
+     * The snapshot is shared by all derived Configurations, and can be invalidated explicitly using {@link org.jooq.impl.CacheType#clear(org.jooq.Configuration)}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheMetaSnapshot() {
+        return cacheMetaSnapshot;
+    }
+
+    /**
+     * Sets the value of the cacheMetaSnapshot property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheMetaSnapshot(Boolean value) {
+        this.cacheMetaSnapshot = value;
+    }
+
+    /**
+     * The number of seconds after which a cached Meta snapshot is refreshed, or 0 if it is never refreshed automatically.
+     * <p>
+     * See {@link #cacheMetaSnapshot}.
+     * 
+     */
+    public Integer getCacheMetaSnapshotTimeToLive() {
+        return cacheMetaSnapshotTimeToLive;
+    }
+
+    /**
+     * The number of seconds after which a cached Meta snapshot is refreshed, or 0 if it is never refreshed automatically.
+     * <p>
+     * See {@link #cacheMetaSnapshot}.
+     * 
+     */
+    public void setCacheMetaSnapshotTimeToLive(Integer value) {
+        this.cacheMetaSnapshotTimeToLive = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -4558,6 +4730,32 @@ public class Settings
         this.returnRecordToPojo = value;
     }
 
+    /**
+     * Whether batchStore() and batchInsert() should return identity columns and, if {@link #returnAllOnUpdatableRecord} is active, all other columns into the batched records.
+     * <p>
+     * This is supported in H2, MariaDB, MySQL, PostgreSQL and YugabyteDB. Records are inserted with a multi row INSERT .. RETURNING if the returned rows can be matched with records by a unique key whose values are known prior to insertion, or if the dialect returns them in insertion order. Identities alone are otherwise fetched from JDBC's getGeneratedKeys() after a batch, if the driver reports them per batch element, or else from single row INSERT .. RETURNING statements. Other dialects, as well as UPDATE and DELETE batches, do not return anything.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isReturnOnBatchUpdatableRecord() {
+        return returnOnBatchUpdatableRecord;
+    }
+
+    /**
+     * Sets the value of the returnOnBatchUpdatableRecord property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setReturnOnBatchUpdatableRecord(Boolean value) {
+        this.returnOnBatchUpdatableRecord = value;
+    }
+
     /**
      * Whether JPA annotations should be considered by the DefaultRecordMapper.
      * 
@@ -4750,6 +4948,102 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * Whether the default ExecutorProvider should run asynchronous tasks on virtual threads, if they are supported by the JVM (Java 21+).
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isExecutorVirtualThreads() {
+        return executorVirtualThreads;
+    }
+
+    /**
+     * Sets the value of the executorVirtualThreads property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setExecutorVirtualThreads(Boolean value) {
+        this.executorVirtualThreads = value;
+    }
+
+    /**
+     * Whether reactive streams subscriptions to queries executed via JDBC should execute them and fetch their results using the Configuration's ExecutorProvider, rather than on the thread requesting the results.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isBlockingSubscriptionOffloading() {
+        return blockingSubscriptionOffloading;
+    }
+
+    /**
+     * Sets the value of the blockingSubscriptionOffloading property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setBlockingSubscriptionOffloading(Boolean value) {
+        this.blockingSubscriptionOffloading = value;
+    }
+
+    /**
+     * The maximum number of records that reactive streams subscriptions to queries executed via JDBC fetch ahead of demand, if blockingSubscriptionOffloading is enabled.
+     * 
+     */
+    public Integer getBlockingSubscriptionPrefetch() {
+        return blockingSubscriptionPrefetch;
+    }
+
+    /**
+     * The maximum number of records that reactive streams subscriptions to queries executed via JDBC fetch ahead of demand, if blockingSubscriptionOffloading is enabled.
+     * 
+     */
+    public void setBlockingSubscriptionPrefetch(Integer value) {
+        this.blockingSubscriptionPrefetch = value;
+    }
+
+    /**
+     * The number of bind value sets that reactive streams subscriptions to single statement batches execute at once, or 0 to execute all of them in a single chunk.
+     * 
+     */
+    public Integer getReactiveBatchChunkSize() {
+        return reactiveBatchChunkSize;
+    }
+
+    /**
+     * The number of bind value sets that reactive streams subscriptions to single statement batches execute at once, or 0 to execute all of them in a single chunk.
+     * 
+     */
+    public void setReactiveBatchChunkSize(Integer value) {
+        this.reactiveBatchChunkSize = value;
+    }
+
+    /**
+     * The maximum number of chunks of a single statement batch that are executed ahead of demand by reactive streams subscriptions via R2DBC.
+     * 
+     */
+    public Integer getReactiveBatchChunksInFlight() {
+        return reactiveBatchChunksInFlight;
+    }
+
+    /**
+     * The maximum number of chunks of a single statement batch that are executed ahead of demand by reactive streams subscriptions via R2DBC.
+     * 
+     */
+    public void setReactiveBatchChunksInFlight(Integer value) {
+        this.reactiveBatchChunksInFlight = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -4830,6 +5124,30 @@ public class Settings
         this.inListPadBase = value;
     }
 
+    /**
+     * Whether IN lists and NOT IN lists of bind values should be rendered as a single array bind value, e.g. col = ANY(?), in dialects that support it. This produces the same SQL string for lists of any size. Other dialects render the list as usual, applying inListPadding if enabled.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isInListArrayBinding() {
+        return inListArrayBinding;
+    }
+
+    /**
+     * Sets the value of the inListArrayBinding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setInListArrayBinding(Boolean value) {
+        this.inListArrayBinding = value;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -6646,11 +6964,29 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of entries per reflection cache in the configuration, or 0 for unbounded caches.
+     * 
+     */
+    public Settings withReflectionCacheSize(Integer value) {
+        setReflectionCacheSize(value);
+        return this;
+    }
+
     public Settings withCacheRecordMappers(Boolean value) {
         setCacheRecordMappers(value);
         return this;
     }
 
+    /**
+     * The maximum number of record mappers cached in the configuration, or 0 for an unbounded cache.
+     * 
+     */
+    public Settings withCacheRecordMappersSize(Integer value) {
+        setCacheRecordMappersSize(value);
+        return this;
+    }
+
     public Settings withCacheParsingConnection(Boolean value) {
         setCacheParsingConnection(value);
         return this;
@@ -6665,6 +7001,41 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheRenderedSQL(Boolean value) {
+        setCacheRenderedSQL(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheRenderedSQLLRUCacheSize(Integer value) {
+        setCacheRenderedSQLLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheExecuteListeners(Boolean value) {
+        setCacheExecuteListeners(value);
+        return this;
+    }
+
+    public Settings withCacheMetaSnapshot(Boolean value) {
+        setCacheMetaSnapshot(value);
+        return this;
+    }
+
+    /**
+     * The number of seconds after which a cached Meta snapshot is refreshed, or 0 if it is never refreshed automatically.
+     * <p>
+     * See {@link #cacheMetaSnapshot}.
+     * 
+     */
+    public Settings withCacheMetaSnapshotTimeToLive(Integer value) {
+        setCacheMetaSnapshotTimeToLive(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -6708,6 +7079,11 @@ public class Settings
         return this;
     }
 
+    public Settings withReturnOnBatchUpdatableRecord(Boolean value) {
+        setReturnOnBatchUpdatableRecord(value);
+        return this;
+    }
+
     public Settings withMapJPAAnnotations(Boolean value) {
         setMapJPAAnnotations(value);
         return this;
@@ -6773,6 +7149,43 @@ public class Settings
         return this;
     }
 
+    public Settings withExecutorVirtualThreads(Boolean value) {
+        setExecutorVirtualThreads(value);
+        return this;
+    }
+
+    public Settings withBlockingSubscriptionOffloading(Boolean value) {
+        setBlockingSubscriptionOffloading(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of records that reactive streams subscriptions to queries executed via JDBC fetch ahead of demand, if blockingSubscriptionOffloading is enabled.
+     * 
+     */
+    public Settings withBlockingSubscriptionPrefetch(Integer value) {
+        setBlockingSubscriptionPrefetch(value);
+        return this;
+    }
+
+    /**
+     * The number of bind value sets that reactive streams subscriptions to single statement batches execute at once, or 0 to execute all of them in a single chunk.
+     * 
+     */
+    public Settings withReactiveBatchChunkSize(Integer value) {
+        setReactiveBatchChunkSize(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of chunks of a single statement batch that are executed ahead of demand by reactive streams subscriptions via R2DBC.
+     * 
+     */
+    public Settings withReactiveBatchChunksInFlight(Integer value) {
+        setReactiveBatchChunksInFlight(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -6801,6 +7214,11 @@ public class Settings
         return this;
     }
 
+    public Settings withInListArrayBinding(Boolean value) {
+        setInListArrayBinding(value);
+        return this;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -7320,9 +7738,16 @@ public class Settings
         builder.append("updateUnchangedRecords", updateUnchangedRecords);
         builder.append("updatablePrimaryKeys", updatablePrimaryKeys);
         builder.append("reflectionCaching", reflectionCaching);
+        builder.append("reflectionCacheSize", reflectionCacheSize);
         builder.append("cacheRecordMappers", cacheRecordMappers);
+        builder.append("cacheRecordMappersSize", cacheRecordMappersSize);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheRenderedSQL", cacheRenderedSQL);
+        builder.append("cacheRenderedSQLLRUCacheSize", cacheRenderedSQLLRUCacheSize);
+        builder.append("cacheExecuteListeners", cacheExecuteListeners);
+        builder.append("cacheMetaSnapshot", cacheMetaSnapshot);
+        builder.append("cacheMetaSnapshotTimeToLive", cacheMetaSnapshotTimeToLive);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
@@ -7330,6 +7755,7 @@ public class Settings
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
         builder.append("returnRecordToPojo", returnRecordToPojo);
+        builder.append("returnOnBatchUpdatableRecord", returnOnBatchUpdatableRecord);
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapRecordComponentParameterNames", mapRecordComponentParameterNames);
         builder.append("mapConstructorPropertiesParameterNames", mapConstructorPropertiesParameterNames);
@@ -7339,10 +7765,16 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("executorVirtualThreads", executorVirtualThreads);
+        builder.append("blockingSubscriptionOffloading", blockingSubscriptionOffloading);
+        builder.append("blockingSubscriptionPrefetch", blockingSubscriptionPrefetch);
+        builder.append("reactiveBatchChunkSize", reactiveBatchChunkSize);
+        builder.append("reactiveBatchChunksInFlight", reactiveBatchChunksInFlight);
         builder.append("batchSize", batchSize);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
+        builder.append("inListArrayBinding", inListArrayBinding);
         builder.append("delimiter", delimiter);
         builder.append("emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly", emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly);
         builder.append("emulateMultiset", emulateMultiset);
@@ -8694,6 +9126,15 @@ public class Settings
                 return false;
             }
         }
+        if (reflectionCacheSize == null) {
+            if (other.reflectionCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!reflectionCacheSize.equals(other.reflectionCacheSize)) {
+                return false;
+            }
+        }
         if (cacheRecordMappers == null) {
             if (other.cacheRecordMappers!= null) {
                 return false;
@@ -8703,6 +9144,15 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRecordMappersSize == null) {
+            if (other.cacheRecordMappersSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRecordMappersSize.equals(other.cacheRecordMappersSize)) {
+                return false;
+            }
+        }
         if (cacheParsingConnection == null) {
             if (other.cacheParsingConnection!= null) {
                 return false;
@@ -8721,6 +9171,51 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRenderedSQL == null) {
+            if (other.cacheRenderedSQL!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQL.equals(other.cacheRenderedSQL)) {
+                return false;
+            }
+        }
+        if (cacheRenderedSQLLRUCacheSize == null) {
+            if (other.cacheRenderedSQLLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQLLRUCacheSize.equals(other.cacheRenderedSQLLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheExecuteListeners == null) {
+            if (other.cacheExecuteListeners!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheExecuteListeners.equals(other.cacheExecuteListeners)) {
+                return false;
+            }
+        }
+        if (cacheMetaSnapshot == null) {
+            if (other.cacheMetaSnapshot!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheMetaSnapshot.equals(other.cacheMetaSnapshot)) {
+                return false;
+            }
+        }
+        if (cacheMetaSnapshotTimeToLive == null) {
+            if (other.cacheMetaSnapshotTimeToLive!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheMetaSnapshotTimeToLive.equals(other.cacheMetaSnapshotTimeToLive)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -8784,6 +9279,15 @@ public class Settings
                 return false;
             }
         }
+        if (returnOnBatchUpdatableRecord == null) {
+            if (other.returnOnBatchUpdatableRecord!= null) {
+                return false;
+            }
+        } else {
+            if (!returnOnBatchUpdatableRecord.equals(other.returnOnBatchUpdatableRecord)) {
+                return false;
+            }
+        }
         if (mapJPAAnnotations == null) {
             if (other.mapJPAAnnotations!= null) {
                 return false;
@@ -8865,6 +9369,51 @@ public class Settings
                 return false;
             }
         }
+        if (executorVirtualThreads == null) {
+            if (other.executorVirtualThreads!= null) {
+                return false;
+            }
+        } else {
+            if (!executorVirtualThreads.equals(other.executorVirtualThreads)) {
+                return false;
+            }
+        }
+        if (blockingSubscriptionOffloading == null) {
+            if (other.blockingSubscriptionOffloading!= null) {
+                return false;
+            }
+        } else {
+            if (!blockingSubscriptionOffloading.equals(other.blockingSubscriptionOffloading)) {
+                return false;
+            }
+        }
+        if (blockingSubscriptionPrefetch == null) {
+            if (other.blockingSubscriptionPrefetch!= null) {
+                return false;
+            }
+        } else {
+            if (!blockingSubscriptionPrefetch.equals(other.blockingSubscriptionPrefetch)) {
+                return false;
+            }
+        }
+        if (reactiveBatchChunkSize == null) {
+            if (other.reactiveBatchChunkSize!= null) {
+                return false;
+            }
+        } else {
+            if (!reactiveBatchChunkSize.equals(other.reactiveBatchChunkSize)) {
+                return false;
+            }
+        }
+        if (reactiveBatchChunksInFlight == null) {
+            if (other.reactiveBatchChunksInFlight!= null) {
+                return false;
+            }
+        } else {
+            if (!reactiveBatchChunksInFlight.equals(other.reactiveBatchChunksInFlight)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -8901,6 +9450,15 @@ public class Settings
                 return false;
             }
         }
+        if (inListArrayBinding == null) {
+            if (other.inListArrayBinding!= null) {
+                return false;
+            }
+        } else {
+            if (!inListArrayBinding.equals(other.inListArrayBinding)) {
+                return false;
+            }
+        }
         if (delimiter == null) {
             if (other.delimiter!= null) {
                 return false;
@@ -9438,9 +9996,16 @@ public class Settings
         result = ((prime*result)+((updateUnchangedRecords == null)? 0 :updateUnchangedRecords.hashCode()));
         result = ((prime*result)+((updatablePrimaryKeys == null)? 0 :updatablePrimaryKeys.hashCode()));
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
+        result = ((prime*result)+((reflectionCacheSize == null)? 0 :reflectionCacheSize.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
+        result = ((prime*result)+((cacheRecordMappersSize == null)? 0 :cacheRecordMappersSize.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQL == null)? 0 :cacheRenderedSQL.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQLLRUCacheSize == null)? 0 :cacheRenderedSQLLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheExecuteListeners == null)? 0 :cacheExecuteListeners.hashCode()));
+        result = ((prime*result)+((cacheMetaSnapshot == null)? 0 :cacheMetaSnapshot.hashCode()));
+        result = ((prime*result)+((cacheMetaSnapshotTimeToLive == null)? 0 :cacheMetaSnapshotTimeToLive.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
@@ -9448,6 +10013,7 @@ public class Settings
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
+        result = ((prime*result)+((returnOnBatchUpdatableRecord == null)? 0 :returnOnBatchUpdatableRecord.hashCode()));
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapRecordComponentParameterNames == null)? 0 :mapRecordComponentParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorPropertiesParameterNames == null)? 0 :mapConstructorPropertiesParameterNames.hashCode()));
@@ -9457,10 +10023,16 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((executorVirtualThreads == null)? 0 :executorVirtualThreads.hashCode()));
+        result = ((prime*result)+((blockingSubscriptionOffloading == null)? 0 :blockingSubscriptionOffloading.hashCode()));
+        result = ((prime*result)+((blockingSubscriptionPrefetch == null)? 0 :blockingSubscriptionPrefetch.hashCode()));
+        result = ((prime*result)+((reactiveBatchChunkSize == null)? 0 :reactiveBatchChunkSize.hashCode()));
+        result = ((prime*result)+((reactiveBatchChunksInFlight == null)? 0 :reactiveBatchChunksInFlight.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
+        result = ((prime*result)+((inListArrayBinding == null)? 0 :inListArrayBinding.hashCode()));
         result = ((prime*result)+((delimiter == null)? 0 :delimiter.hashCode()));
         result = ((prime*result)+((emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly == null)? 0 :emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly.hashCode()));
         result = ((prime*result)+((emulateMultiset == null)? 0 :emulateMultiset.hashCode()));
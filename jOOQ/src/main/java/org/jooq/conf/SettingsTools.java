@@ -200,6 +200,27 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether rendered SQL caching is active.
+     */
+    public static final boolean renderedSQLCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheRenderedSQL(), false);
+    }
+
+    /**
+     * Whether execute listener caching is active.
+     */
+    public static final boolean executeListenerCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheExecuteListeners(), true);
+    }
+
+    /**
+     * Whether meta snapshot caching is active.
+     */
+    public static final boolean metaSnapshotCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheMetaSnapshot(), false);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -103,27 +103,27 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext keyword(String keyword) {
+    public BindContext keyword(String keyword) {
         return this;
     }
 
     @Override
-    public final BindContext sql(String sql) {
+    public BindContext sql(String sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(String sql, boolean literal) {
+    public BindContext sql(String sql, boolean literal) {
         return this;
     }
 
     @Override
-    public final BindContext sqlIndentStart(String sql) {
+    public BindContext sqlIndentStart(String sql) {
         return this;
     }
 
     @Override
-    public final BindContext sqlIndentEnd(String sql) {
+    public BindContext sqlIndentEnd(String sql) {
         return this;
     }
 
@@ -138,37 +138,37 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext sql(char sql) {
+    public BindContext sql(char sql) {
         return this;
     }
 
     @Override
-    public final BindContext sqlIndentStart(char sql) {
+    public BindContext sqlIndentStart(char sql) {
         return this;
     }
 
     @Override
-    public final BindContext sqlIndentEnd(char sql) {
+    public BindContext sqlIndentEnd(char sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(int sql) {
+    public BindContext sql(int sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(long sql) {
+    public BindContext sql(long sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(float sql) {
+    public BindContext sql(float sql) {
         return this;
     }
 
     @Override
-    public final BindContext sql(double sql) {
+    public BindContext sql(double sql) {
         return this;
     }
 
@@ -243,7 +243,7 @@ abstract class AbstractBindContext extends AbstractContext<BindContext> implemen
     }
 
     @Override
-    public final BindContext literal(String literal) {
+    public BindContext literal(String literal) {
         return this;
     }
 
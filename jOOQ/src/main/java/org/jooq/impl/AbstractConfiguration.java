@@ -203,7 +203,7 @@ public abstract class AbstractConfiguration implements Configuration {
 
     @Override
     public final Configuration deriveAppending(ExecuteListener... newExecuteListeners) {
-        return deriveAppending(DefaultExecuteListenerProvider.providers(newExecuteListeners));
+        return deriveAppending(ExecuteListeners.transientProviders(newExecuteListeners));
     }
 
     @Override
@@ -1305,8 +1305,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
                                 fields,
                                 originalConfiguration)
                              .operate(record -> {
-                                record.values[0] = id;
-                                record.originals[0] = id;
+                                record.setValueAndOriginal(0, id);
 
                                 return record;
                             }));
@@ -75,13 +75,21 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 import static org.jooq.SQLDialect.YUGABYTEDB;
 import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.conf.ParamType.NAMED;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.unnest;
+import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.Keywords.K_AND;
 import static org.jooq.impl.Keywords.K_IN;
 import static org.jooq.impl.Keywords.K_NOT_IN;
 import static org.jooq.impl.Keywords.K_OR;
+import static org.jooq.impl.Names.N_ARRAY_TABLE;
+import static org.jooq.impl.Names.N_COLUMN_VALUE;
 import static org.jooq.impl.QueryPartListView.wrap;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.anyMatch;
@@ -96,11 +104,14 @@ import java.util.Set;
 
 import org.jooq.Condition;
 import org.jooq.Context;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Function2;
 import org.jooq.Param;
+import org.jooq.Record1;
 import org.jooq.RowN;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
 // ...
 import org.jooq.impl.QOM.InList;
 import org.jooq.impl.QOM.UnmodifiableList;
@@ -113,6 +124,7 @@ abstract class AbstractInList<T> extends AbstractCondition {
     static final int              IN_LIMIT               = 1000;
     static final Set<SQLDialect>  REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     static final Set<SQLDialect>  NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES, YUGABYTEDB);
+    static final Set<SQLDialect>  SUPPORT_ARRAY_BINDING  = SQLDialect.supportedBy(H2, HSQLDB, POSTGRES, YUGABYTEDB);
 
     final Field<T>                field;
     final QueryPartList<Field<T>> values;
@@ -173,6 +185,38 @@ abstract class AbstractInList<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
+
+        // Bind the list as a single array, to produce the same SQL string for
+        // lists of any size
+        else if (arrayBinding(ctx, field, values)) {
+            Field<T[]> array = array(field, values);
+
+            switch (ctx.family()) {
+
+                // Quantified comparisons with array bind values would be
+                // expanded to OR-connected predicates in these dialects
+                case H2:
+                case HSQLDB: {
+                    Select<Record1<T>> unnest = select(DSL.field(N_ARRAY_TABLE.append(N_COLUMN_VALUE), field.getDataType())).from(unnest(array));
+
+                    if (in)
+                        ctx.visit(field.in(unnest));
+                    else
+                        ctx.visit(field.notIn(unnest));
+
+                    break;
+                }
+
+                default: {
+                    if (in)
+                        ctx.visit(field.eq(any(array)));
+                    else
+                        ctx.visit(field.ne(all(array)));
+
+                    break;
+                }
+            }
+        }
         else if (values.size() > IN_LIMIT) {
             // [#798] Oracle and some other dialects can only hold 1000 values
             // in an IN (...) clause
@@ -217,6 +261,35 @@ abstract class AbstractInList<T> extends AbstractCondition {
             toSQLSubValues(ctx, field, in, padded(ctx, values));
     }
 
+    private static final <T> boolean arrayBinding(Context<?> ctx, Field<T> field, List<Field<T>> values) {
+        if (!TRUE.equals(ctx.settings().isInListArrayBinding())
+            || !SUPPORT_ARRAY_BINDING.contains(ctx.dialect())
+            || (ctx.paramType() != INDEXED && ctx.paramType() != NAMED))
+            return false;
+
+        // Restrict this to types whose arrays are bound reliably by all drivers
+        DataType<T> type = field.getDataType();
+        if (type instanceof ConvertedDataType || type.isLob() || !(type.isNumeric() || type.isString() || type.isBoolean() || type.isDateTime()))
+            return false;
+
+        // Expressions, inline values, and named parameters must be rendered as such
+        for (Field<T> value : values)
+            if (!(value instanceof Param<?> p) || p.isInline() || p.getParamName() != null)
+                return false;
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <T> Field<T[]> array(Field<T> field, List<Field<T>> values) {
+        T[] array = (T[]) java.lang.reflect.Array.newInstance(field.getType(), values.size());
+
+        for (int i = 0; i < array.length; i++)
+            array[i] = ((Param<T>) values.get(i)).getValue();
+
+        return val(array, field.getDataType().getArrayDataType());
+    }
+
     static final RowN[] rows(List<? extends Field<?>> values) {
         return map(values, v -> row(embeddedFields(v)), RowN[]::new);
     }
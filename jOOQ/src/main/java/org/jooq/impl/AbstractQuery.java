@@ -471,16 +471,10 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             result = new Rendered(render.paramType(INLINED).visit(ctx.query()).render(), null, render.skipUpdateCounts());
         }
         else if (executePreparedStatements(c.settings())) {
-            try {
-                render = new DefaultRenderContext(c, ctx);
-                render.data(DATA_COUNT_BIND_VALUES, true);
-                result = new Rendered(render.visit(ctx.query()).render(), render.bindValues(), render.skipUpdateCounts());
-            }
-            catch (DefaultRenderContext.ForceInlineSignal e) {
-                ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-                render = new DefaultRenderContext(c, ctx);
-                result = new Rendered(render.paramType(INLINED).visit(ctx.query()).render(), null, render.skipUpdateCounts());
-            }
+
+            // Queries that differ only in their bind values can reuse a
+            // previously rendered SQL string, if so configured
+            result = RenderCache.rendered(c, ctx, () -> getSQLPrepared(ctx, c));
         }
         else {
             render = new DefaultRenderContext(c, ctx);
@@ -514,6 +508,21 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         return result;
     }
 
+    private static final Rendered getSQLPrepared(DefaultExecuteContext ctx, Configuration c) {
+        DefaultRenderContext render;
+
+        try {
+            render = new DefaultRenderContext(c, ctx);
+            render.data(DATA_COUNT_BIND_VALUES, true);
+            return new Rendered(render.visit(ctx.query()).render(), render.bindValues(), render.skipUpdateCounts());
+        }
+        catch (DefaultRenderContext.ForceInlineSignal e) {
+            ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
+            render = new DefaultRenderContext(c, ctx);
+            return new Rendered(render.paramType(INLINED).visit(ctx.query()).render(), null, render.skipUpdateCounts());
+        }
+    }
+
 
 
 
@@ -121,8 +121,18 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
-    final BitSet                                changed;
+
+    /**
+     * The original values, or <code>null</code> if they're the same as
+     * {@link #values}. Allocated only once a value is modified.
+     */
+    Object[]                                    originals;
+
+    /**
+     * The changed flags, or <code>null</code> if no flag is set. Allocated only
+     * once a flag is set.
+     */
+    BitSet                                      changed;
     boolean                                     fetched;
 
     /**
@@ -146,8 +156,58 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Value and change tracking state
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get the original values, copying them from the current values prior to
+     * a modification, if they were shared so far.
+     */
+    final Object[] originals() {
+        if (originals == null)
+            originals = values.clone();
+
+        return originals;
+    }
+
+    /**
+     * Get the changed flags, allocating them prior to setting a flag.
+     */
+    final BitSet changedFlags() {
+        if (changed == null)
+            changed = new BitSet(values.length);
+
+        return changed;
+    }
+
+    /**
+     * Set a value and its original, e.g. when loading a record from the
+     * database.
+     */
+    final void setValueAndOriginal(int index, Object value) {
+        values[index] = value;
+
+        if (originals != null)
+            originals[index] = value;
+    }
+
+    /**
+     * Set a value, its original, and its changed flag, e.g. when copying the
+     * state of another record.
+     */
+    final void setState(int index, Object value, Object original, boolean c) {
+        if (originals != null || value != original)
+            originals()[index] = original;
+
+        values[index] = value;
+
+        if (c)
+            changedFlags().set(index);
+        else if (changed != null)
+            changed.clear(index);
     }
 
     // ------------------------------------------------------------------------
@@ -439,22 +499,22 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            changed.set(index);
+            changedFlags().set(index);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (changed.get(index)) {
-            changed.set(index);
+        else if (changed(index)) {
+            changedFlags().set(index);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            changed.set(index);
+            changedFlags().set(index);
         }
 
         // [#2698] If the primary key has not yet been set
-        else if (originals[index] == null) {
-            changed.set(index);
+        else if (original(index) == null) {
+            changedFlags().set(index);
         }
 
         // [#979] If the primary key is being changed, all other fields' flags
@@ -463,13 +523,13 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         else {
 
             // [#945] Be sure that changed is never reset to false
-            changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
-
-            if (changed.get(index)) {
+            if (!StringUtils.equals(values[index], value)) {
+                changedFlags().set(index);
                 changed(true);
             }
         }
 
+        originals();
         values[index] = value;
     }
 
@@ -497,9 +557,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int targetIndex = indexOrFail(this.fields, field);
             int sourceIndex = indexOrFail(record.fields, field);
 
-            values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
-            changed.set(targetIndex, record.changed(sourceIndex));
+            setState(targetIndex, record.get(sourceIndex), record.original(sourceIndex), record.changed(sourceIndex));
         }
     }
 
@@ -508,7 +566,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         if (field(fieldIndex).getType() == String.class) {
             values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+
+            if (originals != null)
+                originals[fieldIndex] = intern((String) originals[fieldIndex]);
         }
     }
 
@@ -537,8 +597,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public Record original() {
         return Tools.newRecord(fetched, (Class<AbstractRecord>) getClass(), fields, configuration())
                     .operate(record -> {
-                        for (int i = 0; i < originals.length; i++)
-                            record.values[i] = record.originals[i] = originals[i];
+                        for (int i = 0; i < values.length; i++)
+                            record.setValueAndOriginal(i, original(i));
 
                         return record;
                     });
@@ -551,7 +611,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        safeIndex(fieldIndex);
+        return originals == null ? values[fieldIndex] : originals[fieldIndex];
     }
 
     @Override
@@ -566,7 +627,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changed != null && !changed.isEmpty();
     }
 
     @Override
@@ -576,7 +637,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        return changed != null && changed.get(safeIndex(fieldIndex));
     }
 
     @Override
@@ -591,12 +652,15 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
+        if (c) {
+            changedFlags().set(0, values.length);
+        }
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+        else {
+            changed = null;
+            originals = null;
         }
     }
 
@@ -609,11 +673,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        if (c)
+            changedFlags().set(fieldIndex);
+        else if (changed != null)
+            changed.clear(fieldIndex);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c)
+        if (!c && originals != null)
             originals[fieldIndex] = values[fieldIndex];
     }
 
@@ -629,9 +696,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        changed = null;
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != null) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = null;
+        }
     }
 
     @Override
@@ -643,8 +713,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
-        values[fieldIndex] = originals[fieldIndex];
+        if (changed != null)
+            changed.clear(fieldIndex);
+
+        if (originals != null)
+            values[fieldIndex] = originals[fieldIndex];
     }
 
     @Override
@@ -873,9 +946,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
-                            t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+                            Object value = targetType.convert(values[sourceIndex]);
+
+                            t.setState(
+                                targetIndex,
+                                value,
+                                originals == null ? value : targetType.convert(originals[sourceIndex]),
+                                changed(sourceIndex)
+                            );
                         }
                     }
                 }
@@ -1069,7 +1147,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     @Override
-    public final void formatJSON(Writer writer, JSONFormat format) {
+    public final void formatJSON(Writer w, JSONFormat format) {
+        FormatWriter writer = FormatWriter.of(w);
         format = format.mutable(true);
 
         try {
@@ -1092,7 +1171,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     @Override
-    public final void formatXML(Writer writer, XMLFormat format) {
+    public final void formatXML(Writer w, XMLFormat format) {
+        FormatWriter writer = FormatWriter.of(w);
         format = format.mutable(true);
 
         try {
@@ -52,8 +52,17 @@ import static org.jooq.tools.StringUtils.rightPad;
 
 import java.io.StringReader;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Date;
+import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,7 +71,9 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -135,6 +146,14 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         return fields;
     }
 
+    /**
+     * The records to be formatted by this result, which may be reused by
+     * subtypes across iteration steps.
+     */
+    Iterable<R> formattedRecords() {
+        return this;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Formattable API
     // -------------------------------------------------------------------------
@@ -384,7 +403,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
     }
 
     @Override
-    public final void formatCSV(Writer writer, CSVFormat format) {
+    public final void formatCSV(Writer w, CSVFormat format) {
+        FormatWriter writer = FormatWriter.of(w);
+
         try {
             if (format.header()) {
                 String sep1 = "";
@@ -398,14 +419,17 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline());
             }
 
-            for (R record : this) {
+            int size = fields.size();
+            boolean direct = formatCSVDirect(format);
+            char quote = format.quoteString().charAt(0);
+
+            for (R record : formattedRecords()) {
                 record = nullSafe(record);
                 String sep2 = "";
 
-                int size = fields.size();
                 for (int index = 0; index < size; index++) {
                     writer.append(sep2);
-                    writer.append(formatCSV0(record.getValue(index), format));
+                    formatCSV0(record.getValue(index), format, direct, quote, writer);
 
                     sep2 = format.delimiter();
                 }
@@ -420,6 +444,93 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
+    /**
+     * Whether integral and plain text values can be written by
+     * {@link FormatWriter#writeLong(long)},
+     * {@link FormatWriter#writeTemporal(Object)}, and
+     * {@link FormatWriter#writeCSV(String, char, CSVFormat.Quote)}, rather
+     * than being formatted by {@link #formatCSV0(Object, CSVFormat)}.
+     */
+    private static final boolean formatCSVDirect(CSVFormat format) {
+        String quote = format.quoteString();
+
+        // Quotes that could appear in formatted numbers or dates require
+        // escaping those, too
+        return quote.length() == 1
+            && "\\-:.+ ".indexOf(quote.charAt(0)) == -1
+            && !Character.isLetterOrDigit(quote.charAt(0));
+    }
+
+    private static final boolean isIntegral(Class<?> type) {
+        return type == Integer.class
+            || type == Long.class
+            || type == Short.class
+            || type == Byte.class;
+    }
+
+    /**
+     * Whether a type's values are formatted by their {@link Object#toString()}
+     * method in {@link #format0(Object, boolean, boolean)}.
+     */
+    private static final boolean isPlainText(Class<?> type) {
+        return type == String.class
+            || type == BigDecimal.class
+            || type == BigInteger.class
+            || type == Double.class
+            || type == Float.class
+            || type == Boolean.class
+            || type == Timestamp.class
+            || type == Time.class
+            || type == LocalDate.class
+            || type == LocalTime.class
+            || type == LocalDateTime.class
+            || type == OffsetTime.class
+            || type == OffsetDateTime.class
+            || type == Instant.class
+            || type == UUID.class;
+    }
+
+    private static final void formatCSV0(Object value, CSVFormat format, boolean direct, char quote, FormatWriter writer) throws java.io.IOException {
+        if (value == null)
+            writer.append(format.nullString());
+
+        // Integral and plain text values are escaped straight into the writer
+        else if (direct && (isIntegral(value.getClass()) || isPlainText(value.getClass()))) {
+            boolean quoted = format.quote() == CSVFormat.Quote.ALWAYS;
+
+            if (isIntegral(value.getClass())) {
+                if (quoted)
+                    writer.write(quote);
+
+                writer.writeLong(((Number) value).longValue());
+
+                if (quoted)
+                    writer.write(quote);
+            }
+
+            // Temporal values don't contain any special characters
+            else if (FormatWriter.isTemporal(value.getClass())) {
+                if (quoted)
+                    writer.write(quote);
+
+                writer.writeTemporal(value);
+
+                if (quoted)
+                    writer.write(quote);
+            }
+            else {
+                String string = value.toString();
+
+                if (string.isEmpty())
+                    writer.append(format.emptyString());
+                else
+                    writer.writeCSV(string, quote, format.quote());
+            }
+        }
+        else
+            writer.append(formatCSV0(value, format));
+    }
+
     private static final String formatCSV0(Object value, CSVFormat format) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
@@ -462,7 +573,8 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
     }
 
     @Override
-    public final void formatJSON(Writer writer, JSONFormat format) {
+    public final void formatJSON(Writer w, JSONFormat format) {
+        FormatWriter writer = FormatWriter.of(w);
         format = format.mutable(true);
 
         try {
@@ -559,7 +671,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             switch (format.recordFormat()) {
                 case ARRAY:
-                    for (Record record : this) {
+                    for (Record record : formattedRecords()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -572,7 +684,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                     break;
                 case OBJECT:
-                    for (Record record : this) {
+                    for (Record record : formattedRecords()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -617,7 +729,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         return ((AbstractDataType<?>) field.getDataType()).typeName0().toUpperCase(renderLocale(configuration.settings()));
     }
 
-    static final void formatJSON0(Object value, Writer writer, JSONFormat format) throws java.io.IOException {
+    static final void formatJSON0(Object value, FormatWriter writer, JSONFormat format) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         if (value instanceof byte[] a) {
@@ -650,9 +762,28 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.write(((JSONB) value).data());
         }
 
-        else {
+        else if (value instanceof String s) {
+            writer.writeJSON(s);
+        }
+        else if (value == null) {
+            writer.append("null");
+        }
+        else if (isIntegral(value.getClass())) {
+            writer.writeLong(((Number) value).longValue());
+        }
+        else if (FormatWriter.isTemporal(value.getClass())) {
+            writer.write('"');
+            writer.writeTemporal(value);
+            writer.write('"');
+        }
+        else if (value instanceof Number || value instanceof Boolean || value instanceof Map || value instanceof List) {
             JSONValue.writeJSONString(value, writer);
         }
+
+        // Like JSONValue, write all other values as strings
+        else {
+            writer.writeJSON(value.toString());
+        }
     }
 
     static final void formatJSONMap0(
@@ -660,7 +791,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         AbstractRow<?> fields,
         JSONFormat format,
         int recordLevel,
-        Writer writer
+        FormatWriter writer
     ) throws java.io.IOException {
         if (record == null) {
             writer.append("null");
@@ -713,7 +844,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         AbstractRow<?> fields,
         JSONFormat format,
         int recordLevel,
-        Writer writer
+        FormatWriter writer
     ) throws java.io.IOException {
         if (record == null) {
             writer.append("null");
@@ -759,7 +890,8 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
     }
 
     @Override
-    public final void formatXML(Writer writer, XMLFormat format) {
+    public final void formatXML(Writer w, XMLFormat format) {
+        FormatWriter writer = FormatWriter.of(w);
         format = format.mutable(true);
 
         String newline = format.newline();
@@ -809,7 +941,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(newline).append(format.indentString(1)).append("<records>");
             }
 
-            for (Record record : this) {
+            for (Record record : formattedRecords()) {
                 writer.append(newline).append(format.indentString(recordLevel));
                 formatXMLRecord(writer, format, recordLevel, record, fields);
             }
@@ -826,7 +958,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
     }
 
     static final void formatXMLRecord(
-        Writer writer,
+        FormatWriter writer,
         XMLFormat format,
         int recordLevel,
         Record record,
@@ -854,13 +986,14 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             writer.append(newline).append(format.indentString(recordLevel + 1));
             String tag = format.recordFormat() == COLUMN_NAME_ELEMENTS
-                ? escapeXML(fields.field(index).getName())
+                ? fields.field(index).getName()
                 : "value";
 
-            writer.append("<" + tag);
+            writer.append('<');
+            writer.writeXML(tag);
             if (format.recordFormat() == VALUE_ELEMENTS_WITH_FIELD_ATTRIBUTE) {
                 writer.append(" field=\"");
-                writer.append(escapeXML(fields.field(index).getName()));
+                writer.writeXML(fields.field(index).getName());
                 writer.append("\"");
             }
 
@@ -879,10 +1012,20 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 }
                 else if (value instanceof XML && !format.quoteNested())
                     writer.append(((XML) value).data());
+                else if (value instanceof String s)
+                    writer.writeXML(s);
+                else if (isIntegral(value.getClass()))
+                    writer.writeLong(((Number) value).longValue());
+                else if (FormatWriter.isTemporal(value.getClass()))
+                    writer.writeTemporal(value);
+                else if (isPlainText(value.getClass()))
+                    writer.writeXML(value.toString());
                 else
-                    writer.append(escapeXML(format0(value, false, false)));
+                    writer.writeXML(format0(value, false, false));
 
-                writer.append("</" + tag + ">");
+                writer.append("</");
+                writer.writeXML(tag);
+                writer.append('>');
             }
         }
 
@@ -1125,7 +1268,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.append("</thead>");
             writer.append("<tbody>");
 
-            for (R record : this) {
+            for (R record : formattedRecords()) {
                 record = nullSafe(record);
                 writer.append("<tr>");
 
@@ -1375,6 +1518,10 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         // [#2741] TODO: This logic will be externalised in new SPI
         String formatted = changed && visual ? "*" : "";
 
+        // Avoid concatenating strings in the common case
+        if (formatted.isEmpty() && value != null && isPlainText(value.getClass()))
+            return value.toString();
+
         if (value == null) {
             formatted += visual ? "{null}" : null;
         }
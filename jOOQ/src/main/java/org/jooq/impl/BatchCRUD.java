@@ -37,22 +37,41 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.YUGABYTEDB;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Identity;
+import org.jooq.InsertQuery;
+import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
 import org.jooq.TableRecord;
+import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.FingerprintContext.Fingerprint;
 import org.jooq.tools.JooqLogger;
 
 /**
@@ -60,9 +79,26 @@ import org.jooq.tools.JooqLogger;
  */
 final class BatchCRUD extends AbstractBatch {
 
-    private static final JooqLogger log = JooqLogger.getLogger(BatchCRUD.class);
-    private final TableRecord<?>[]  records;
-    private final Action            action;
+    private static final JooqLogger      log                         = JooqLogger.getLogger(BatchCRUD.class);
+
+    // [#3327] Dialects supporting multi row INSERT .. RETURNING (or an emulation). The order of the
+    //         returned rows is not guaranteed, so they're matched with records by a unique key.
+    private static final Set<SQLDialect> SUPPORT_MULTI_ROW_RETURNING = SQLDialect.supportedBy(H2, MARIADB, POSTGRES, YUGABYTEDB);
+
+    // [#3327] Dialects whose JDBC drivers return all generated identities of a multi row INSERT in insertion order.
+    //         MySQL allocates consecutive AUTO_INCREMENT values to a multi row INSERT .. VALUES, from which
+    //         the driver derives the keys it returns.
+    private static final Set<SQLDialect> SUPPORT_MULTI_ROW_IDENTITY  = SQLDialect.supportedBy(MYSQL);
+
+    // [#3327] Dialects whose JDBC drivers report one generated identity per batch element, in order,
+    //         from getGeneratedKeys() after executeBatch()
+    private static final Set<SQLDialect> SUPPORT_BATCH_IDENTITY      = SQLDialect.supportedBy(H2, POSTGRES, YUGABYTEDB);
+
+    // Keep multi row INSERT .. RETURNING statements below common bind value limits
+    private static final int             MAX_BIND_VALUES             = 32767;
+
+    private final TableRecord<?>[]       records;
+    private final Action                 action;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
         super(configuration);
@@ -87,27 +123,31 @@ final class BatchCRUD extends AbstractBatch {
             return executePrepared();
     }
 
-    private final Configuration deriveConfiguration(QueryCollector collector) {
+    private final Configuration deriveConfiguration(QueryCollector collector, boolean returning) {
         Configuration local = configuration.deriveAppending(collector);
 
         local.settings()
 
             // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
-            .withExecuteLogging(false)
+            .withExecuteLogging(false);
 
-            // [#3327] [#11509] We can't return generated keys from batches (yet)
-            .withReturnAllOnUpdatableRecord(false)
-            .withReturnIdentityOnUpdatableRecord(false);
+        // [#3327] [#11509] Generated keys can only be returned from some batches
+        if (!returning)
+            local.settings()
+                .withReturnAllOnUpdatableRecord(false)
+                .withReturnIdentityOnUpdatableRecord(false);
 
         return local;
     }
 
     private final int[] executePrepared() {
-        Map<String, List<Query>> queries = new LinkedHashMap<>();
-        QueryCollector collector = new QueryCollector();
+        Map<Object, QueryGroup> queries = new LinkedHashMap<>();
+        QueryCollector collector = new QueryCollector(true);
+        boolean returning = TRUE.equals(configuration.settings().isReturnOnBatchUpdatableRecord());
+        InsertQueryImpl<?>[] inserts = returning ? new InsertQueryImpl[records.length] : null;
 
-        // Add the QueryCollector to intercept query execution after rendering
-        Configuration local = deriveConfiguration(collector);
+        // Add the QueryCollector to intercept query execution before or after rendering
+        Configuration local = deriveConfiguration(collector, returning);
 
         for (int i = 0; i < records.length; i++) {
             Configuration previous = records[i].configuration();
@@ -118,29 +158,56 @@ final class BatchCRUD extends AbstractBatch {
             }
             catch (QueryCollectorSignal e) {
                 Query query = e.getQuery();
-                String sql = e.getSQL();
 
-                // Aggregate executable queries by identical SQL
+                // [#3327] Remember the INSERT queries whose RETURNING clause
+                // can be executed in a multi row INSERT, ignore all others
+                if (returning && query instanceof AbstractDMLQuery<?> d && !d.returning.isEmpty()) {
+                    if (multiRowReturning(query))
+                        inserts[i] = (InsertQueryImpl<?>) query;
+                    else {
+                        d.returning.clear();
+                        d.returningResolvedAsterisks.clear();
+                    }
+                }
+
+                // Aggregate executable queries by identical SQL, or by
+                // identical fingerprint, if available
                 if (query.isExecutable())
-                    queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                    queries.computeIfAbsent(e.getKey(), k -> new QueryGroup(query, e.getParams())).add(i, query, e.getParams());
             }
             finally {
                 records[i].attach(previous);
             }
         }
 
+        // Fingerprints also distinguish queries whose SQL might differ only
+        // in some dialects, e.g. because of NULL bind values. Merge them again,
+        // rendering only one query per fingerprint
+        Map<String, QueryGroup> merged = new LinkedHashMap<>();
+        queries.forEach((k, v) -> {
+            QueryGroup group = merged.putIfAbsent(k instanceof String sql ? sql : dsl.render(v.query), v);
+
+            if (group != null)
+                group.merge(v);
+        });
+
         if (log.isDebugEnabled())
-            log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
+            log.debug("Batch " + action + " of " + records.length + " records using " + merged.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + merged.values().stream().mapToInt(g -> g.bindValues.size()).average().orElse(0.0) + " (higher is better)");
 
         // Execute one batch statement for each identical SQL statement. Every
         // SQL statement may have several queries with different bind values.
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
-        queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
+        merged.forEach((k, v) -> {
+            if (inserts != null && inserts[v.records.get(0)] != null) {
+                executeReturning(v, inserts, result);
+                return;
+            }
+
+            BatchBindStep batch = dsl.batch(v.query);
 
-            for (Query query : v)
-                batch.bind(query.getBindValues().toArray());
+            for (Object[] bindValues : v.bindValues)
+                batch.bind(bindValues);
 
             int[] array = batch.execute();
             for (int i : array)
@@ -157,8 +224,8 @@ final class BatchCRUD extends AbstractBatch {
 
     private final int[] executeStatic() {
         List<Query> queries = new ArrayList<>();
-        QueryCollector collector = new QueryCollector();
-        Configuration local = deriveConfiguration(collector);
+        QueryCollector collector = new QueryCollector(false);
+        Configuration local = deriveConfiguration(collector, false);
 
         for (int i = 0; i < records.length; i++) {
             Configuration previous = records[i].configuration();
@@ -184,6 +251,195 @@ final class BatchCRUD extends AbstractBatch {
         return result;
     }
 
+    /**
+     * Whether the generated values of an <code>INSERT</code> query can be
+     * fetched for a group of records using a multi row <code>INSERT</code>
+     * statement.
+     */
+    private final boolean multiRowReturning(Query query) {
+        if (action == Action.MERGE
+            || !(query instanceof InsertQueryImpl<?> i)
+            || i.getInsertMaps().values.isEmpty()
+            || i.getSelect() != null)
+            return false;
+        else if (SUPPORT_MULTI_ROW_RETURNING.contains(dsl.dialect()))
+            return true;
+
+        // Only the identity is returned in order from JDBC's getGeneratedKeys()
+        else if (SUPPORT_MULTI_ROW_IDENTITY.contains(dsl.dialect()))
+            return identityOnly(i);
+        else
+            return false;
+    }
+
+    /**
+     * Whether an <code>INSERT</code> query returns only its table's identity.
+     */
+    private static final boolean identityOnly(InsertQueryImpl<?> i) {
+        Identity<?, ?> identity = i.table.getIdentity();
+
+        return identity != null
+            && i.returningResolvedAsterisks.size() == 1
+            && identity.getField().equals(i.returningResolvedAsterisks.get(0));
+    }
+
+    /**
+     * Execute a group of <code>INSERT</code> queries as multi row
+     * <code>INSERT .. RETURNING</code> statements, and set the returned values
+     * onto the records.
+     * <p>
+     * Only {@link #SUPPORT_MULTI_ROW_IDENTITY} guarantees that rows are
+     * returned in insertion order. Elsewhere, the returned rows are matched
+     * with records by a unique key whose values are supplied by all records
+     * of the group. If there is no such key, but only the identity is
+     * returned, {@link #SUPPORT_BATCH_IDENTITY} report it per batch element.
+     * Otherwise, each record is inserted individually.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final void executeReturning(QueryGroup group, InsertQueryImpl<?>[] inserts, List<Integer> result) {
+        InsertQueryImpl<?> first = inserts[group.records.get(0)];
+        boolean ordered = SUPPORT_MULTI_ROW_IDENTITY.contains(dsl.dialect());
+        List<? extends Field<?>> key = ordered ? null : matchingKey(group, inserts);
+
+        if (!ordered && key == null && identityOnly(first) && SUPPORT_BATCH_IDENTITY.contains(dsl.dialect())) {
+            executeBatchIdentity(group, first, result);
+            return;
+        }
+
+        int size = ordered || key != null
+            ? Math.max(1, MAX_BIND_VALUES / Math.max(1, group.bindValues.get(0).length))
+            : 1;
+
+        for (int from = 0; from < group.records.size(); from += size) {
+            List<Integer> chunk = group.records.subList(from, Math.min(from + size, group.records.size()));
+            InsertQuery<?> insert = dsl.insertQuery((Table) first.table);
+
+            for (int i : chunk) {
+                insert.newRecord();
+                insert.addValues(inserts[i].getInsertMaps().lastMap());
+            }
+
+            insert.setReturning(first.returningResolvedAsterisks);
+            int rows = insert.execute();
+            Result<?> returned = insert.getReturnedRecords();
+
+            if (returned.size() != chunk.size()) {
+                if (log.isDebugEnabled())
+                    log.debug("Batch " + action + " returned " + returned.size() + " records for " + chunk.size() + " inserted records. Cannot set returned values.");
+            }
+
+            // A single row, or rows returned in insertion order
+            else if (key == null) {
+                for (int i = 0; i < chunk.size(); i++)
+                    if (records[chunk.get(i)] instanceof TableRecordImpl<?> r)
+                        r.setReturned(first.returningResolvedAsterisks, returned.get(i));
+            }
+            else {
+                Map<List<Object>, Integer> index = new HashMap<>();
+
+                for (int i : chunk)
+                    index.put(keyValues(key, inserts[i]), i);
+
+                for (Record row : returned) {
+                    List<Object> values = new ArrayList<>(key.size());
+
+                    for (Field<?> f : key)
+                        values.add(row.get(f));
+
+                    Integer i = index.remove(values);
+                    if (i != null && records[i] instanceof TableRecordImpl<?> r)
+                        r.setReturned(first.returningResolvedAsterisks, row);
+                }
+
+                if (!index.isEmpty() && log.isDebugEnabled())
+                    log.debug("Batch " + action + " could not match " + index.size() + " returned records with inserted records by key " + key + ". Cannot set returned values.");
+            }
+
+            for (int i = 0; i < chunk.size(); i++)
+                result.add(rows == chunk.size() ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+    }
+
+    /**
+     * Execute a group of <code>INSERT</code> queries as a JDBC batch, and set
+     * the identities reported by {@link Statement#getGeneratedKeys()} onto the
+     * records.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final void executeBatchIdentity(QueryGroup group, InsertQueryImpl<?> first, List<Integer> result) {
+        List<Field<?>> returning = new ArrayList<>(first.returningResolvedAsterisks);
+        Field<?> identity = returning.get(0);
+
+        // The identity is requested from JDBC instead of a RETURNING clause
+        AbstractDMLQuery<?> query = (AbstractDMLQuery<?>) group.query;
+        query.returning.clear();
+        query.returningResolvedAsterisks.clear();
+
+        List<Object> generated = new ArrayList<>();
+        for (int i : new BatchSingle(configuration, query).executePrepared(group.bindValues, identity, generated))
+            result.add(i);
+
+        if (generated.size() == group.records.size()) {
+            for (int i = 0; i < generated.size(); i++) {
+                if (records[group.records.get(i)] instanceof TableRecordImpl<?> r) {
+                    Record record = dsl.newRecord(identity);
+                    record.set((Field) identity, generated.get(i));
+                    r.setReturned(returning, record);
+                }
+            }
+        }
+        else if (log.isDebugEnabled())
+            log.debug("Batch " + action + " returned " + generated.size() + " generated keys for " + group.records.size() + " inserted records. Cannot set returned values.");
+    }
+
+    /**
+     * Find a unique key whose values are returned, and known for all records
+     * of a group prior to insertion, or <code>null</code> if there is no such
+     * key.
+     */
+    private final List<? extends Field<?>> matchingKey(QueryGroup group, InsertQueryImpl<?>[] inserts) {
+        InsertQueryImpl<?> first = inserts[group.records.get(0)];
+        List<UniqueKey<?>> keys = new ArrayList<>();
+
+        if (first.table.getPrimaryKey() != null)
+            keys.add(first.table.getPrimaryKey());
+
+        keys.addAll(first.table.getKeys());
+
+        keyLoop:
+        for (UniqueKey<?> key : keys) {
+            List<? extends Field<?>> fields = key.getFields();
+
+            if (fields.isEmpty() || !first.returningResolvedAsterisks.containsAll(fields))
+                continue keyLoop;
+
+            for (int i : group.records)
+                if (keyValues(fields, inserts[i]) == null)
+                    continue keyLoop;
+
+            return fields;
+        }
+
+        return null;
+    }
+
+    /**
+     * The key values inserted by a query, or <code>null</code> if any of them
+     * are unknown prior to insertion.
+     */
+    private static final List<Object> keyValues(List<? extends Field<?>> key, InsertQueryImpl<?> insert) {
+        Map<Field<?>, Field<?>> map = insert.getInsertMaps().lastMap();
+        List<Object> result = new ArrayList<>(key.size());
+
+        for (Field<?> f : key)
+            if (map.get(f) instanceof Param<?> p && p.getValue() != null)
+                result.add(p.getValue());
+            else
+                return null;
+
+        return result;
+    }
+
     private final void executeAction(int i) {
         switch (action) {
             case STORE:
@@ -249,18 +505,137 @@ final class BatchCRUD extends AbstractBatch {
         DELETE
     }
 
+    /**
+     * The queries sharing the same fingerprint or SQL string in a batch.
+     */
+    private static final class QueryGroup {
+        final Query          query;
+        final List<Object[]> bindValues;
+        final List<Integer>  records;
+
+        /**
+         * Whether the fingerprinted {@link Param} lists can be used as bind
+         * values, which is the case if they are the same as the ones that
+         * {@link BatchSingle} binds.
+         */
+        final boolean        fingerprinted;
+
+        QueryGroup(Query query, List<Param<?>> params) {
+            this.query = query;
+            this.bindValues = new ArrayList<>();
+            this.records = new ArrayList<>();
+            this.fingerprinted = params != null && sameParams(query, params);
+        }
+
+        final void add(int record, Query q, List<Param<?>> params) {
+            records.add(record);
+
+            if (fingerprinted) {
+                Object[] values = new Object[params.size()];
+
+                for (int i = 0; i < values.length; i++)
+                    values[i] = params.get(i).getValue();
+
+                bindValues.add(values);
+            }
+            else
+                bindValues.add(q.getBindValues().toArray());
+        }
+
+        /**
+         * Merge another group with the same SQL into this one, keeping the
+         * order of records.
+         */
+        final void merge(QueryGroup other) {
+            Object[][] values = new Object[records.size() + other.records.size()][];
+            int[] r = new int[values.length];
+
+            for (int i = 0, j = 0, k = 0; k < values.length; k++) {
+                if (j >= other.records.size() || i < records.size() && records.get(i) < other.records.get(j)) {
+                    r[k] = records.get(i);
+                    values[k] = bindValues.get(i++);
+                }
+                else {
+                    r[k] = other.records.get(j);
+                    values[k] = other.bindValues.get(j++);
+                }
+            }
+
+            records.clear();
+            bindValues.clear();
+
+            for (int k = 0; k < values.length; k++) {
+                records.add(r[k]);
+                bindValues.add(values[k]);
+            }
+        }
+
+        private static final boolean sameParams(Query query, List<Param<?>> params) {
+            ParamCollector collector = new ParamCollector(Tools.configuration(query), false);
+            collector.visit(query);
+
+            if (collector.resultList.size() != params.size())
+                return false;
+
+            for (int i = 0; i < params.size(); i++)
+                if (collector.resultList.get(i).getValue() != params.get(i))
+                    return false;
+
+            return true;
+        }
+    }
+
     /**
      * Collect queries
      * <p>
-     * The query collector intercepts query execution after rendering. This
-     * allows for rendering SQL according to the specific logic contained in
-     * TableRecords without actually executing that SQL
+     * The query collector intercepts query execution after rendering, or
+     * before rendering if the query can be fingerprinted. This allows for
+     * rendering SQL according to the specific logic contained in TableRecords
+     * without actually executing that SQL
      */
     private static class QueryCollector implements ExecuteListener {
 
+        /**
+         * Whether queries should be intercepted prior to rendering, if they
+         * can be grouped by their {@link Fingerprint} instead of their SQL.
+         */
+        private final boolean fingerprint;
+
+        QueryCollector(boolean fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public void renderStart(ExecuteContext ctx) {
+
+            // VisitListeners may transform the rendered SQL arbitrarily
+            if (fingerprint && ctx.configuration().visitListenerProviders().length == 0) {
+                // The derived configuration of the ExecuteContext has its own copy of Settings
+                Configuration c = ctx instanceof DefaultExecuteContext d ? d.originalConfiguration() : ctx.configuration();
+                FingerprintContext f = new FingerprintContext(c, ctx);
+
+                try {
+                    f.visit(ctx.query());
+                }
+
+                // Some QueryParts are not fit for being visited by a BindContext,
+                // e.g. when they need to generate aliases. Such queries are rendered.
+                catch (RuntimeException e) {
+                    log.debug("Cannot fingerprint query", e);
+                    return;
+                }
+
+                // Inline values are not part of the fingerprint. Such queries are rendered.
+                if (f.inlined())
+                    return;
+
+                throw new QueryCollectorSignal(f.fingerprint(), f.params, ctx.query());
+            }
+        }
+
         @Override
         public void renderEnd(ExecuteContext ctx) {
-            throw new QueryCollectorSignal(ctx.sql(), ctx.query());
+            throw new QueryCollectorSignal(ctx.sql(), null, ctx.query());
         }
     }
 
@@ -271,16 +646,28 @@ final class BatchCRUD extends AbstractBatch {
      * execution, and return generated SQL back to batch execution.
      */
     private static class QueryCollectorSignal extends ControlFlowSignal {
-        private final String      sql;
-        private final Query       query;
+        private final Object         key;
+        private final List<Param<?>> params;
+        private final Query          query;
 
-        QueryCollectorSignal(String sql, Query query) {
-            this.sql = sql;
+        QueryCollectorSignal(Object key, List<Param<?>> params, Query query) {
+            this.key = key;
+            this.params = params;
             this.query = query;
         }
 
-        String getSQL() {
-            return sql;
+        /**
+         * The rendered SQL string, or the {@link Fingerprint} of the query.
+         */
+        Object getKey() {
+            return key;
+        }
+
+        /**
+         * The fingerprinted bind values, if available.
+         */
+        List<Param<?>> getParams() {
+            return params;
         }
 
         Query getQuery() {
@@ -39,12 +39,16 @@ package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.renderLocale;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -55,13 +59,16 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.ExecuteContext.BatchMode;
+import org.jooq.conf.RenderNameCase;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
 import org.jooq.impl.R2DBC.BatchSubscription;
+import org.jooq.impl.R2DBC.BlockingBatchSingleSubscription;
 import org.jooq.tools.JooqLogger;
 
 import org.reactivestreams.Subscriber;
@@ -150,9 +157,9 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         if (!(cf instanceof NoConnectionFactory))
             subscriber.onSubscribe(new BatchSubscription<>(this, subscriber, s -> new BatchSingleSubscriber(this, s)));
 
-        // TODO: [#11700] Implement this
+        // [#11700] Execute the batch in chunks, on demand
         else
-            throw new UnsupportedOperationException();
+            subscriber.onSubscribe(new BlockingBatchSingleSubscription(this, subscriber));
     }
 
     @Override
@@ -167,13 +174,28 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
 
         checkBindValues();
+        return execute(allBindValues);
+    }
+
+    /**
+     * Execute a chunk of this batch's bind values.
+     */
+    final int[] execute(List<Object[]> chunk) {
 
         // [#1180] Run batch queries with BatchMultiple, if no bind variables
         // should be used...
         if (executeStaticStatements(configuration.settings()))
-            return executeStatic();
+            return executeStatic(chunk);
         else
-            return executePrepared();
+            return executePrepared(chunk);
+    }
+
+    /**
+     * The number of bind value sets per chunk of a reactive batch execution.
+     */
+    final int chunkSize() {
+        int chunkSize = defaultIfNull(configuration.settings().getReactiveBatchChunkSize(), 0);
+        return chunkSize <= 0 ? Math.max(1, allBindValues.size()) : chunkSize;
     }
 
     final void checkBindValues() {
@@ -186,7 +208,18 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                     log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
     }
 
-    private final int[] executePrepared() {
+    private final int[] executePrepared(List<Object[]> chunk) {
+        return executePrepared(chunk, null, null);
+    }
+
+    /**
+     * [#3327] Execute a chunk of this batch's bind values as a prepared
+     * statement, and collect the values that JDBC's
+     * {@link Statement#getGeneratedKeys()} reports for the argument identity,
+     * if any. Only some JDBC drivers report one value per bind value set, in
+     * the order of the bind value sets.
+     */
+    final int[] executePrepared(List<Object[]> chunk, Field<?> identity, List<Object> generated) {
         DefaultExecuteContext ctx = new DefaultExecuteContext(configuration, BatchMode.SINGLE, new Query[] { query });
         ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
@@ -205,7 +238,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
 
             listener.prepareStart(ctx);
             if (ctx.statement() == null)
-                ctx.statement(connection.prepareStatement(ctx.sql()));
+                ctx.statement(identity == null
+                    ? connection.prepareStatement(ctx.sql())
+                    : connection.prepareStatement(ctx.sql(), new String[] { generatedKeyName(identity) })
+                );
             listener.prepareEnd(ctx);
 
             // [#9295] use query timeout from settings
@@ -213,7 +249,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             if (t != 0)
                 ctx.statement().setQueryTimeout(t);
 
-            for (Object[] bindValues : allBindValues) {
+            for (Object[] bindValues : chunk) {
                 listener.bindStart(ctx);
 
                 // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
@@ -237,6 +273,18 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 batchRows[i] = result[i];
 
             listener.executeEnd(ctx);
+
+            if (identity != null) {
+                try (ResultSet rs = ctx.statement().getGeneratedKeys()) {
+
+                    // Some JDBC drivers seem to illegally return null
+                    // from getGeneratedKeys() sometimes
+                    if (rs != null)
+                        while (rs.next())
+                            generated.add(identity.getDataType().convert(rs.getObject(1)));
+                }
+            }
+
             return result;
         }
 
@@ -259,6 +307,20 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
     }
 
+    /**
+     * [#2845] Field names should be passed to JDBC in the case imposed by the
+     * user.
+     */
+    private final String generatedKeyName(Field<?> identity) {
+        RenderNameCase style = SettingsTools.getRenderNameCase(configuration.settings());
+
+        return style == RenderNameCase.UPPER
+             ? identity.getName().toUpperCase(renderLocale(configuration.settings()))
+             : style == RenderNameCase.LOWER
+             ? identity.getName().toLowerCase(renderLocale(configuration.settings()))
+             : identity.getName();
+    }
+
     final Param<?>[] extractParams() {
         // [#1371] fetch bind variables to restore them again, later
         // [#3940] Don't include inlined bind variables
@@ -268,10 +330,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         return map(collector.resultList, e -> e.getValue(), Param[]::new);
     }
 
-    private final int[] executeStatic() {
-        List<Query> queries = new ArrayList<>(allBindValues.size());
+    private final int[] executeStatic(List<Object[]> chunk) {
+        List<Query> queries = new ArrayList<>(chunk.size());
 
-        for (Object[] bindValues : allBindValues) {
+        for (Object[] bindValues : chunk) {
             for (int i = 0; i < bindValues.length; i++)
                 query.bind(i + 1, bindValues[i]);
 
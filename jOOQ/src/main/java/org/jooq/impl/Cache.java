@@ -40,8 +40,10 @@ package org.jooq.impl;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.Serializable;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import org.jooq.impl.CacheType;
@@ -73,45 +75,154 @@ final class Cache {
         if (!type.category.predicate.test(configuration.settings()))
             return operation.get();
 
-        Object cacheOrNull = configuration.data(type);
-        if (cacheOrNull == null) {
-            synchronized (type) {
-                cacheOrNull = configuration.data(type);
-
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
-            }
-        }
-
+        Object cacheOrNull = cache(configuration, type);
         if (cacheOrNull == NULL)
             return operation.get();
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
+        // recursively, and since we do not want to block unrelated keys while
+        // an expensive operation is computed, we claim a key with a
+        // Computation placeholder, and compute the value outside of any lock.
         Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
         Object k = key.get();
         Object v = cache.get(k);
-        if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
+        if (v == null) {
+            Computation computation = new Computation();
+            v = cache.putIfAbsent(k, computation);
+
+            if (v == null) {
+                try {
+                    V result = operation.get();
+                    v = result == null ? NULL : result;
+
+                    // The placeholder may have been evicted in the meantime
+                    cache.replace(k, computation, v);
+                    computation.complete(v);
+                }
+                catch (Throwable t) {
+                    cache.remove(k, computation);
+                    computation.complete(FAILED);
+                    throw t;
+                }
             }
         }
 
+        if (v instanceof Computation c) {
+            v = c.await();
+
+            // Recursive computation of the same key, a cycle of computations
+            // across threads, or a failed computation in another thread:
+            // Compute the value without caching it.
+            if (v == FAILED)
+                return operation.get();
+        }
+
         return (V) (v == NULL ? null : v);
     }
 
+    private static final Object cache(Configuration configuration, CacheType type) {
+        Object cacheOrNull = configuration.data(type);
+
+        if (cacheOrNull == null) {
+            Map<Object, Object> data = configuration.data();
+
+            if (data instanceof ConcurrentMap<Object, Object> m) {
+                cacheOrNull = m.computeIfAbsent(type, t -> provide(configuration, type));
+            }
+            else {
+                synchronized (type) {
+                    cacheOrNull = configuration.data(type);
+
+                    if (cacheOrNull == null)
+                        configuration.data(type, cacheOrNull = provide(configuration, type));
+                }
+            }
+        }
+
+        return cacheOrNull;
+    }
+
+    private static final Object provide(Configuration configuration, CacheType type) {
+        return defaultIfNull(
+            configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
+            NULL
+        );
+    }
+
+    /**
+     * The {@link Computation} each waiting thread is waiting for.
+     */
+    private static final Map<Thread, Computation> WAITING = new IdentityHashMap<>();
+
+    /**
+     * A placeholder for a value that is being computed by some thread.
+     */
+    private static final class Computation {
+        private final Thread owner = Thread.currentThread();
+        private Object       value;
+
+        final synchronized void complete(Object v) {
+            value = v;
+            notifyAll();
+        }
+
+        final Object await() {
+            Thread current = Thread.currentThread();
+
+            // Waiting for ourselves would never terminate, neither would
+            // waiting for a thread that (transitively) waits for us, e.g. when
+            // thread A computes X and needs Y, while thread B computes Y and
+            // needs X. Registering and checking atomically guarantees that
+            // the last thread to close such a cycle detects it.
+            synchronized (WAITING) {
+                for (Computation c = this; c != null; c = WAITING.get(c.owner))
+                    if (c.owner == current)
+                        return FAILED;
+
+                WAITING.put(current, this);
+            }
+
+            try {
+                return await0();
+            }
+            finally {
+                synchronized (WAITING) {
+                    WAITING.remove(current);
+                }
+            }
+        }
+
+        private final synchronized Object await0() {
+            boolean interrupted = false;
+
+            while (value == null) {
+                try {
+                    wait();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+
+            return value;
+        }
+    }
+
     /**
      * A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}.
      */
     private static final Object NULL = new Object();
 
+    /**
+     * A placeholder for a failed {@link Computation}.
+     */
+    private static final Object FAILED = new Object();
+
     /**
      * Create a single-value or multi-value key for caching.
      */
@@ -38,20 +38,32 @@
 package org.jooq.impl;
 
 
+import static org.jooq.impl.CacheType.CacheCategory.EXECUTE_LISTENER;
+import static org.jooq.impl.CacheType.CacheCategory.META_SNAPSHOT;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
+import static org.jooq.impl.CacheType.CacheCategory.RENDERED_SQL;
 
+import java.sql.DatabaseMetaData;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Meta;
+import org.jooq.Query;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * The set of internal cache types.
  * <p>
@@ -121,7 +133,28 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for rendered SQL strings and bind value extraction plans of
+     * executed {@link Query} instances, keyed by their structural fingerprint,
+     * to avoid re-rendering queries that differ only in their bind values.
+     */
+    CACHE_RENDERED_SQL(RENDERED_SQL, "org.jooq.configuration.cache.rendered-sql"),
+
+    /**
+     * A cache for the resolved {@link ExecuteListener} chain of a
+     * {@link Configuration}, if all of its {@link ExecuteListenerProvider}
+     * instances are {@link ExecuteListenerProvider#singleton()}.
+     */
+    CACHE_EXECUTE_LISTENERS(EXECUTE_LISTENER, "org.jooq.configuration.cache.execute-listeners"),
+
+    /**
+     * A cache for the {@link Meta#snapshot()} provided by the
+     * {@link DefaultMetaProvider}, to avoid repeated JDBC
+     * {@link DatabaseMetaData} lookups, e.g. by the parser.
+     */
+    CACHE_META_SNAPSHOT(META_SNAPSHOT, "org.jooq.configuration.cache.meta-snapshot");
 
     final CacheCategory category;
     final String        key;
@@ -131,10 +164,43 @@ public enum CacheType {
         this.key = key;
     }
 
+    /**
+     * Get the {@link CacheStatistics} of this cache type in a
+     * {@link Configuration}.
+     *
+     * @return The statistics, or <code>null</code> if the cache has not been
+     *         initialised yet, if caching is turned off, or if the
+     *         {@link CacheProvider} does not produce caches that implement
+     *         {@link CacheStatistics}.
+     */
+    @Nullable
+    public final CacheStatistics statistics(Configuration configuration) {
+        return configuration.data(this) instanceof CacheStatistics s ? s : null;
+    }
+
+    /**
+     * Clear this cache type in a {@link Configuration}.
+     * <p>
+     * {@link Configuration#derive()} copies {@link Configuration#data()}
+     * shallowly, so configurations derived after the cache was initialised
+     * share it, and are cleared as well. Configurations derived before that
+     * initialise their own caches, which aren't affected by this call.
+     * <p>
+     * This is useful e.g. to refresh the {@link #CACHE_META_SNAPSHOT} after
+     * executing DDL.
+     */
+    public final void clear(Configuration configuration) {
+        if (configuration.data(this) instanceof Map<?, ?> m)
+            m.clear();
+    }
+
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        RENDERED_SQL(SettingsTools::renderedSQLCaching),
+        EXECUTE_LISTENER(SettingsTools::executeListenerCaching),
+        META_SNAPSHOT(SettingsTools::metaSnapshotCaching);
 
         final Predicate<? super Settings> predicate;
 
@@ -40,6 +40,7 @@ package org.jooq.impl;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteEventHandler;
 import org.jooq.ExecuteListener;
+import org.jooq.impl.ExecuteListeners.ExecuteEvent;
 
 /**
  * An {@link ExecuteListener} that allows for functional composition.
@@ -129,6 +130,36 @@ public final class CallbackExecuteListener implements ExecuteListener {
         this.onWarning = onWarning;
     }
 
+    /**
+     * The bit mask of {@link ExecuteEvent} ordinals that have a handler.
+     */
+    final int handledEvents() {
+        return handled(ExecuteEvent.START, onStart)
+             | handled(ExecuteEvent.RENDER_START, onRenderStart)
+             | handled(ExecuteEvent.RENDER_END, onRenderEnd)
+             | handled(ExecuteEvent.PREPARE_START, onPrepareStart)
+             | handled(ExecuteEvent.PREPARE_END, onPrepareEnd)
+             | handled(ExecuteEvent.BIND_START, onBindStart)
+             | handled(ExecuteEvent.BIND_END, onBindEnd)
+             | handled(ExecuteEvent.EXECUTE_START, onExecuteStart)
+             | handled(ExecuteEvent.EXECUTE_END, onExecuteEnd)
+             | handled(ExecuteEvent.OUT_START, onOutStart)
+             | handled(ExecuteEvent.OUT_END, onOutEnd)
+             | handled(ExecuteEvent.FETCH_START, onFetchStart)
+             | handled(ExecuteEvent.RESULT_START, onResultStart)
+             | handled(ExecuteEvent.RECORD_START, onRecordStart)
+             | handled(ExecuteEvent.RECORD_END, onRecordEnd)
+             | handled(ExecuteEvent.RESULT_END, onResultEnd)
+             | handled(ExecuteEvent.FETCH_END, onFetchEnd)
+             | handled(ExecuteEvent.END, onEnd)
+             | handled(ExecuteEvent.EXCEPTION, onException)
+             | handled(ExecuteEvent.WARNING, onWarning);
+    }
+
+    private static final int handled(ExecuteEvent event, ExecuteEventHandler handler) {
+        return handler != null ? 1 << event.ordinal() : 0;
+    }
+
     @Override
     public final void start(ExecuteContext ctx) {
         if (onStart != null)
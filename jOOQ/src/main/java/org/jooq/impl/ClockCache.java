@@ -0,0 +1,339 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.CacheStatistics;
+
+/**
+ * A thread safe, optionally bounded cache using the CLOCK (second chance)
+ * eviction policy.
+ * <p>
+ * Lookups only set a reference bit on the cached node, and never take a lock.
+ * When the cache exceeds its capacity, the inserting thread advances the clock
+ * hand, giving recently referenced nodes a second chance, and evicting the
+ * first node that hasn't been referenced since the last pass.
+ * <p>
+ * Nodes that have been replaced or removed stay in the clock until the hand
+ * passes them, or until the clock grows beyond twice the size of the cache, at
+ * which point it is swept of such stale nodes.
+ *
+ * @author Lukas Eder
+ */
+final class ClockCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>, CacheStatistics {
+
+    private final int                               capacity;
+    private final ConcurrentHashMap<K, Node<K, V>>  map;
+    private final ConcurrentLinkedQueue<Node<K, V>> clock;
+    private final AtomicInteger                     clockSize;
+    private final LongAdder                         hits;
+    private final LongAdder                         misses;
+    private final LongAdder                         evictions;
+
+    /**
+     * Create a new cache.
+     *
+     * @param capacity The maximum number of entries, or <code>0</code> for an
+     *            unbounded cache.
+     */
+    ClockCache(int capacity) {
+        this.capacity = capacity <= 0 ? Integer.MAX_VALUE : capacity;
+        this.map = new ConcurrentHashMap<>();
+        this.clock = bounded() ? new ConcurrentLinkedQueue<>() : null;
+        this.clockSize = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    private final boolean bounded() {
+        return capacity < Integer.MAX_VALUE;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: CacheStatistics API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final int capacity() {
+        return capacity;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Map API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V get(Object key) {
+        Node<K, V> node = map.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        // Avoid needless writes to shared memory
+        if (!node.referenced)
+            node.referenced = true;
+
+        hits.increment();
+        return node.value;
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = map.put(key, node);
+        added(node);
+        return old == null ? null : old.value;
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = map.putIfAbsent(key, node);
+
+        if (old == null) {
+            added(node);
+            return null;
+        }
+        else
+            return old.value;
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        for (;;) {
+            Node<K, V> old = map.get(key);
+
+            if (old == null || !Objects.equals(old.value, oldValue))
+                return false;
+
+            Node<K, V> node = new Node<>(key, newValue);
+            if (map.replace(key, old, node)) {
+                added(node);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public final V replace(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = map.replace(key, node);
+
+        if (old == null)
+            return null;
+
+        added(node);
+        return old.value;
+    }
+
+    @Override
+    public final V remove(Object key) {
+        Node<K, V> old = map.remove(key);
+        return old == null ? null : old.value;
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        for (;;) {
+            Node<K, V> old = map.get(key);
+
+            if (old == null || !Objects.equals(old.value, value))
+                return false;
+            else if (map.remove(key, old))
+                return true;
+        }
+    }
+
+    @Override
+    public final void clear() {
+        map.clear();
+
+        if (clock != null) {
+            clock.clear();
+            clockSize.set(0);
+        }
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> it = map.values().iterator();
+
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Node<K, V> node = it.next();
+                        return new SimpleImmutableEntry<>(node.key, node.value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Eviction
+    // ------------------------------------------------------------------------
+
+    private final void added(Node<K, V> node) {
+        if (clock != null) {
+            clock.offer(node);
+            int size = clockSize.incrementAndGet();
+
+            if (map.size() > capacity)
+                evict();
+
+            // Replaced and removed nodes are not polled while the cache is
+            // below capacity. Sweep them before the clock grows unbounded.
+            else if (size > 2 * map.size() + 16)
+                sweep();
+        }
+    }
+
+    private final void evict() {
+        Node<K, V> node;
+
+        while (map.size() > capacity && (node = clock.poll()) != null) {
+            clockSize.decrementAndGet();
+
+            // The node has been removed or replaced in the meantime
+            if (stale(node))
+                continue;
+
+            // Give recently referenced nodes a second chance
+            else if (node.referenced) {
+                node.referenced = false;
+                clock.offer(node);
+                clockSize.incrementAndGet();
+            }
+            else if (map.remove(node.key, node))
+                evictions.increment();
+        }
+    }
+
+    private final void sweep() {
+        int[] removed = { 0 };
+
+        clock.removeIf(node -> {
+            if (stale(node)) {
+                removed[0]++;
+                return true;
+            }
+            else
+                return false;
+        });
+
+        clockSize.addAndGet(-removed[0]);
+    }
+
+    private final boolean stale(Node<K, V> node) {
+        return map.get(node.key) != node;
+    }
+
+    @Override
+    public String toString() {
+        return "ClockCache [size=" + size() + ", capacity=" + capacity + ", hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + "]";
+    }
+
+    private static final class Node<K, V> {
+        final K          key;
+        final V          value;
+        volatile boolean referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,706 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+import static org.jooq.impl.Tools.recordFactory;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jooq.Attachable;
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Records;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.exception.InvalidResultException;
+
+/**
+ * A columnar storage for the records of a {@link Result}, as produced by
+ * {@link ResultQuery#fetchColumnar()}.
+ * <p>
+ * Each field is stored in an array of its own, which is a primitive array if
+ * the field's type allows for it. Records are created when they are first
+ * accessed through the {@link List} API, and retained from then on, such that
+ * modifications to them are reflected in the result. Bulk operations, such as
+ * the column accessors of this class, {@link #peek(int)}, or
+ * {@link #reusingRecord()}, read from such retained records where available,
+ * and from the columns otherwise, without retaining any new records.
+ *
+ * @author Lukas Eder
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Attachable {
+
+    private final AbstractRow<R>        row;
+    private final Class<? extends R>    type;
+    private transient Supplier<R>       factory;
+    private Configuration               configuration;
+    private final Column[]              columns;
+    private Object[]                    accessed;
+    private int                         capacity;
+    private int                         size;
+
+    ColumnarRecords(Configuration configuration, AbstractRow<R> row, Class<? extends R> type) {
+        this.configuration = configuration;
+        this.row = row;
+        this.type = type;
+        this.columns = new Column[row.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = Column.of(row.field(i).getType());
+    }
+
+    /**
+     * Consume a cursor into a columnar {@link Result}.
+     */
+    static final <R extends Record> Result<R> result(Configuration configuration, Cursor<R> cursor) {
+        AbstractRow<R> row = (AbstractRow<R>) cursor.fieldsRow();
+        Iterator<R> it = cursor.iterator();
+        ColumnarRecords<R> records = null;
+
+        while (it.hasNext()) {
+            R record = it.next();
+
+            // The record type and configuration are only known once a record
+            // has been fetched
+            if (records == null) {
+                if (record.configuration() != null)
+                    configuration = record.configuration();
+
+                records = new ColumnarRecords<>(configuration, row, (Class<? extends R>) record.getClass());
+            }
+
+            records.append(record);
+        }
+
+        if (records == null)
+            return new ResultImpl<>(configuration, row);
+
+        records.trim();
+        return new ResultImpl<>(configuration, row, records);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columnar access
+    // -------------------------------------------------------------------------
+
+    /**
+     * The values of a column.
+     */
+    final List<Object> values(int fieldIndex) {
+        List<Object> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            result.add(value(i, fieldIndex));
+
+        return result;
+    }
+
+    /**
+     * The values of a column mapped by the values of another column, see
+     * {@link Records#intoMap(java.util.function.Function, java.util.function.Function)}.
+     */
+    final Map<Object, Object> intoMap(int keyFieldIndex, int valueFieldIndex) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Object k = value(i, keyFieldIndex);
+
+            if (result.containsKey(k))
+                throw new InvalidResultException("Key " + k + " is not unique in Result");
+            else
+                result.put(k, value(i, valueFieldIndex));
+        }
+
+        return result;
+    }
+
+    /**
+     * The values of a column grouped by the values of another column, see
+     * {@link Records#intoGroups(java.util.function.Function, java.util.function.Function)}.
+     */
+    final Map<Object, List<Object>> intoGroups(int keyFieldIndex, int valueFieldIndex) {
+        Map<Object, List<Object>> result = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++)
+            result.computeIfAbsent(value(i, keyFieldIndex), k -> new ArrayList<>()).add(value(i, valueFieldIndex));
+
+        // Like Records.intoGroups(), list the null group last
+        if (result.containsKey(null))
+            result.put(null, result.remove(null));
+
+        return result;
+    }
+
+    /**
+     * Iterate over all rows using a single record, which is reloaded for each
+     * row that hasn't been accessed yet.
+     * <p>
+     * This is only useful when the records are discarded after each
+     * iteration step, e.g. for formatting purposes, or for mapping them to
+     * other types.
+     */
+    final Iterable<R> reusingRecord() {
+        return () -> new Iterator<R>() {
+            final R record = newRecord();
+            int     next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                int index = next++;
+                R r = accessed(index);
+                return r != null ? r : load(record, index);
+            }
+        };
+    }
+
+    /**
+     * The record of a row for reading its values, which isn't retained unless
+     * it has been accessed before.
+     */
+    final R peek(int index) {
+        R r = accessed(Objects.checkIndex(index, size));
+        return r != null ? r : load(newRecord(), index);
+    }
+
+    /**
+     * The record of a row, if it has been accessed before.
+     */
+    private final R accessed(int index) {
+        return accessed == null ? null : (R) accessed[index];
+    }
+
+    private final Object value(int index, int fieldIndex) {
+        R r = accessed(index);
+        return r != null ? r.get(fieldIndex) : columns[fieldIndex].get(index);
+    }
+
+    private final R newRecord() {
+        if (factory == null)
+            factory = recordFactory(type, row);
+
+        R record = factory.get();
+        ((AbstractRecord) record).fetched = true;
+
+        // [#1684] Do not attach configuration if settings say no
+        if (attachRecords(configuration))
+            record.attach(configuration);
+
+        return record;
+    }
+
+    private final R load(R record, int index) {
+        AbstractRecord r = (AbstractRecord) record;
+
+        for (int i = 0; i < columns.length; i++)
+            r.setValueAndOriginal(i, columns[i].get(index));
+
+        return record;
+    }
+
+    private final void store(int index, R record) {
+        for (int i = 0; i < columns.length; i++) {
+            Object value = record.get(i);
+
+            if (!columns[i].set(index, value)) {
+                columns[i] = columns[i].boxed(capacity, size);
+                columns[i].set(index, value);
+            }
+        }
+    }
+
+    private final void capacity(int c) {
+        capacity = c;
+
+        for (Column column : columns)
+            column.capacity(c);
+
+        if (accessed != null)
+            accessed = Arrays.copyOf(accessed, c);
+    }
+
+    /**
+     * Append a fetched record, without retaining it.
+     */
+    private final void append(R record) {
+        if (size == capacity)
+            capacity(Math.max(16, size + (size >> 1)));
+
+        modCount++;
+        store(size++, record);
+    }
+
+    /**
+     * Move a range of rows within the columns.
+     */
+    private final void move(int from, int to, int length) {
+        for (Column column : columns)
+            column.move(from, to, length);
+
+        if (accessed != null)
+            System.arraycopy(accessed, from, accessed, to, length);
+    }
+
+    /**
+     * Release the values of a row that is no longer part of the result.
+     */
+    private final void release(int index) {
+        for (Column column : columns)
+            column.set(index, null);
+
+        if (accessed != null)
+            accessed[index] = null;
+    }
+
+    private final void trim() {
+        if (capacity > size)
+            capacity(size);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final R get(int index) {
+        R result = accessed(Objects.checkIndex(index, size));
+
+        if (result == null) {
+            if (accessed == null)
+                accessed = new Object[capacity];
+
+            accessed[index] = result = load(newRecord(), index);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        R previous = get(index);
+        store(index, element);
+        accessed[index] = element;
+        return previous;
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        Objects.checkIndex(index, size + 1);
+
+        if (size == capacity)
+            capacity(Math.max(16, size + (size >> 1)));
+
+        modCount++;
+        move(index, index + 1, size++ - index);
+        store(index, element);
+
+        if (accessed == null)
+            accessed = new Object[capacity];
+
+        accessed[index] = element;
+    }
+
+    @Override
+    public final R remove(int index) {
+        R previous = get(index);
+
+        modCount++;
+        move(index + 1, index, size - index - 1);
+        release(--size);
+        return previous;
+    }
+
+    @Override
+    protected final void removeRange(int fromIndex, int toIndex) {
+        modCount++;
+        move(toIndex, fromIndex, size - toIndex);
+
+        for (int i = size - (toIndex - fromIndex); i < size; i++)
+            release(i);
+
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public final void clear() {
+        modCount++;
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = Column.of(row.field(i).getType());
+
+        accessed = null;
+        capacity = 0;
+        size = 0;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void attach(Configuration c) {
+        configuration = c;
+    }
+
+    @Override
+    public final void detach() {
+        attach(null);
+    }
+
+    @Override
+    public final Configuration configuration() {
+        return configuration;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columns
+    // -------------------------------------------------------------------------
+
+    /**
+     * A column, storing the values of a field.
+     */
+    private static abstract class Column implements java.io.Serializable {
+
+        static final Column of(Class<?> type) {
+            if (type == Integer.class)
+                return new IntColumn();
+            else if (type == Long.class)
+                return new LongColumn();
+            else if (type == Double.class)
+                return new DoubleColumn();
+            else if (type == Float.class)
+                return new FloatColumn();
+            else if (type == Short.class)
+                return new ShortColumn();
+            else if (type == Byte.class)
+                return new ByteColumn();
+            else if (type == Boolean.class)
+                return new BooleanColumn();
+            else
+                return new ObjectColumn();
+        }
+
+        abstract Object get(int index);
+
+        /**
+         * Set a value, returning <code>false</code> if the value cannot be
+         * stored in this column.
+         */
+        abstract boolean set(int index, Object value);
+
+        abstract void capacity(int capacity);
+
+        /**
+         * Move a range of values within this column.
+         */
+        void move(int from, int to, int length) {
+            if (from < to)
+                for (int i = length - 1; i >= 0; i--)
+                    set(to + i, get(from + i));
+            else
+                for (int i = 0; i < length; i++)
+                    set(to + i, get(from + i));
+        }
+
+        /**
+         * Copy this column's values to a column of type {@link Object}, e.g.
+         * when an unexpected value type is encountered.
+         */
+        final Column boxed(int capacity, int size) {
+            ObjectColumn result = new ObjectColumn();
+            result.capacity(capacity);
+
+            for (int i = 0; i < size; i++)
+                result.values[i] = get(i);
+
+            return result;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = {};
+
+        @Override
+        final Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            values[index] = value;
+            return true;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        final void move(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    /**
+     * A column of a primitive type, with a separate bit set for
+     * <code>null</code> values.
+     */
+    private static abstract class PrimitiveColumn extends Column {
+        final BitSet nulls = new BitSet();
+
+        @Override
+        final Object get(int index) {
+            return nulls.get(index) ? null : get0(index);
+        }
+
+        @Override
+        final boolean set(int index, Object value) {
+            if (value == null) {
+                nulls.set(index);
+                return true;
+            }
+            else if (set0(index, value)) {
+                nulls.clear(index);
+                return true;
+            }
+            else
+                return false;
+        }
+
+        abstract Object get0(int index);
+
+        abstract boolean set0(int index, Object value);
+    }
+
+    private static final class IntColumn extends PrimitiveColumn {
+        int[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Integer i) {
+                values[index] = i;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class LongColumn extends PrimitiveColumn {
+        long[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Long l) {
+                values[index] = l;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class DoubleColumn extends PrimitiveColumn {
+        double[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Double d) {
+                values[index] = d;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class FloatColumn extends PrimitiveColumn {
+        float[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Float f) {
+                values[index] = f;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class ShortColumn extends PrimitiveColumn {
+        short[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Short s) {
+                values[index] = s;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class ByteColumn extends PrimitiveColumn {
+        byte[] values = {};
+
+        @Override
+        final Object get0(int index) {
+            return values[index];
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Byte b) {
+                values[index] = b;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class BooleanColumn extends PrimitiveColumn {
+        final BitSet values = new BitSet();
+
+        @Override
+        final Object get0(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value instanceof Boolean b) {
+                values.set(index, b);
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        final void capacity(int capacity) {
+
+            // Bit sets grow on demand
+        }
+    }
+}
@@ -57,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.Commit;
 import org.jooq.Configuration;
@@ -64,6 +65,7 @@ import org.jooq.DSLContext;
 import org.jooq.File;
 import org.jooq.Files;
 import org.jooq.Meta;
+import org.jooq.Queries;
 import org.jooq.Source;
 import org.jooq.Version;
 import org.jooq.exception.DataMigrationException;
@@ -79,8 +81,14 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
     private final List<? extends Commit> parents;
     private final Map<String, File>      delta;
     private final Map<String, File>      files;
+    private final Snapshots              snapshots;
+    private volatile Version             version;
 
     CommitImpl(Configuration configuration, String id, String message, List<? extends Commit> parents, Collection<? extends File> delta) {
+        this(configuration, id, message, parents, delta, new Snapshots(configuration.dsl()));
+    }
+
+    private CommitImpl(Configuration configuration, String id, String message, List<? extends Commit> parents, Collection<? extends File> delta, Snapshots snapshots) {
         super(id, message);
 
         this.configuration = configuration;
@@ -88,6 +96,7 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
         this.parents = parents;
         this.delta = map(delta, false);
         this.files = initFiles();
+        this.snapshots = snapshots;
     }
 
     // TODO extract this Map<String, File> type to new type
@@ -161,7 +170,7 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
 
     @Override
     public final Commit commit(String newId, String newMessage, Collection<? extends File> newFiles) {
-        return new CommitImpl(configuration, newId, newMessage, Arrays.asList(this), newFiles);
+        return new CommitImpl(configuration, newId, newMessage, Arrays.asList(this), newFiles, snapshots);
     }
 
     @Override
@@ -181,12 +190,19 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
 
     @Override
     public final Commit merge(String newId, String newMessage, Commit with, Collection<? extends File> newFiles) {
-        return new CommitImpl(configuration, newId, newMessage, Arrays.asList(this, with), newFiles);
+        return new CommitImpl(configuration, newId, newMessage, Arrays.asList(this, with), newFiles, snapshots);
     }
 
     @Override
     public final Version version() {
-        return root().migrateTo(this).to();
+
+        // Commits are immutable, so their version can be computed lazily, once
+        Version result = version;
+
+        if (result == null)
+            version = result = root().migrateTo(this).to();
+
+        return result;
     }
 
     @Override
@@ -335,8 +351,8 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
         }
 
         Map<String, File> versionFiles = new HashMap<>();
-        Version from = version(ctx.version("init"), id(), versionFiles, history.values());
-        Version to = version(from, resultCommit.id(), versionFiles, result.values());
+        Version from = version(snapshots, snapshots.init(), id(), versionFiles, history.values());
+        Version to = version(snapshots, from, resultCommit.id(), versionFiles, result.values());
         return new FilesImpl(from, to, result.values());
     }
 
@@ -359,7 +375,7 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
         }
     }
 
-    private static final Version version(Version from, String newId, Map<String, File> files, Collection<File> result) {
+    private static final Version version(Snapshots snapshots, Version from, String newId, Map<String, File> files, Collection<File> result) {
         Version to = from;
 
         List<File> list = new ArrayList<>(result);
@@ -369,9 +385,9 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
             String commitId = newId + "-" + file.path();
 
             if (file.type() == SCHEMA)
-                to = to.commit(commitId, sources(apply(files, file, true).values()).toArray(EMPTY_SOURCE));
+                to = to.commit(commitId, snapshots.schema(apply(files, file, true).values()));
             else
-                to = to.apply(commitId, file.content());
+                to = snapshots.increment(to, commitId, file.content());
         }
 
         return to;
@@ -409,4 +425,68 @@ final class CommitImpl extends AbstractNode<Commit> implements Commit {
     public String toString() {
         return isBlank(message()) ? id() : id() + " - " + message();
     }
+
+    /**
+     * The interpreted {@link Meta} snapshots shared by all commits of a commit
+     * graph.
+     * <p>
+     * Interpreting a {@link Meta} is expensive, as each increment re-interprets
+     * the entire DDL of its predecessor. Commits that share a history produce
+     * the same sequence of increments on the same predecessor snapshots, which
+     * allows for computing a descendant's snapshot by interpreting only its own
+     * delta. Snapshots are keyed by predecessor identity, as {@link Meta}
+     * equality is based on its (expensive) DDL export.
+     */
+    private static final class Snapshots {
+
+        private final DSLContext              ctx;
+        private final Map<List<String>, Meta> schemas;
+        private final Map<Increment, Applied> increments;
+        private volatile Version              init;
+
+        Snapshots(DSLContext ctx) {
+            this.ctx = ctx;
+            this.schemas = new ConcurrentHashMap<>();
+            this.increments = new ConcurrentHashMap<>();
+        }
+
+        final Version init() {
+            Version result = init;
+
+            if (result == null)
+                init = result = ctx.version("init");
+
+            return result;
+        }
+
+        final Meta schema(Collection<File> files) {
+            return schemas.computeIfAbsent(
+                Tools.map(files, File::content),
+                k -> ctx.meta(sources(files).toArray(EMPTY_SOURCE))
+            );
+        }
+
+        final Version increment(Version from, String newId, String content) {
+            Applied applied = increments.computeIfAbsent(new Increment(from.meta(), content), k -> {
+                Queries queries = ctx.parser().parse(content);
+                return new Applied(queries, k.meta().apply(queries));
+            });
+
+            return new VersionImpl(ctx, newId, applied.meta(), from, applied.queries());
+        }
+    }
+
+    private static final record Increment(Meta meta, String content) {
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(meta) + content.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Increment i && meta == i.meta && content.equals(i.content);
+        }
+    }
+
+    private static final record Applied(Queries queries, Meta meta) {}
 }
@@ -77,6 +77,7 @@ import java.util.function.Supplier;
 
 import org.jooq.Attachable;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -99,6 +100,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
+    private final boolean                                  recordEvents;
     private final boolean[]                                intern;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
@@ -128,6 +130,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+        this.recordEvents = ExecuteListeners.recordEvents(this.listener);
         this.factory = recordFactory(type, this.fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
@@ -1447,7 +1450,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             try {
                 if (!isClosed && rs.next()) {
-                    record = recordDelegate.operate(initialiser.reset());
+                    record = recordDelegate.operate(initialiser);
                     rows++;
                 }
             }
@@ -1482,27 +1485,99 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * A fetch plan for a (possibly nested) row.
+         * <p>
+         * [#11099] All decisions that depend only on the projection and the
+         * dialect, including the JDBC indexes of all columns, are resolved
+         * once, when the cursor is opened, rather than for each cell of each
+         * row.
+         */
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
-            private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final Configuration                     originalConfiguration;
+            private final Field<?>[]                        initialiserFields;
+            private final int[]                             indexes;
+            private final AbstractRow<?>[]                  nestedRows;
+            private final Class<? extends AbstractRecord>[] nestedRecordTypes;
+            private final CursorRecordInitialiser[]         nestedInitialisers;
+            private final boolean[]                         nestedConverted;
+            private final int                               width;
 
-            CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
-                this.initialiserFields = initialiserFields;
-                this.offset = offset;
-            }
+            @SuppressWarnings("unchecked")
+            CursorRecordInitialiser(AbstractRow<?> row, int offset) {
+                int size = row.size();
+
+                this.originalConfiguration = ((DefaultExecuteContext) ctx).originalConfiguration();
+                this.initialiserFields = row.fields();
+                this.indexes = new int[size];
+
+                AbstractRow<?>[] rows = null;
+                Class<? extends AbstractRecord>[] types = null;
+                CursorRecordInitialiser[] initialisers = null;
+                boolean[] converted = null;
+
+                boolean multisetContent = TRUE.equals(ctx.data(DATA_MULTISET_CONTENT));
+                boolean noNativeSupport = NO_NATIVE_SUPPORT.contains(ctx.dialect());
+                int position = offset;
+
+                for (int i = 0; i < size; i++) {
+                    Field<?> field = initialiserFields[i];
+                    AbstractRow<?> nested = null;
+                    Class<? extends AbstractRecord> recordType = null;
+
+                    // [#7100] TODO: This should be transparent to the CursorImpl
+                    //         RowField may have a Row[N].mapping(...) applied
+                    Field<?> f = uncoerce(field);
+
+                    // [#13560] Queries may decide themselves to replace the
+                    //          flattening emulation by the MULTISET emulation
+                    if (f instanceof AbstractRowAsField<?> r && noNativeSupport && !multisetContent) {
+                        nested = r.emulatedFields(configuration);
+                        recordType = (Class<? extends AbstractRecord>) r.getRecordType();
+                    }
+                    else if (f.getDataType().isEmbeddable()) {
+                        nested = Tools.row0(embeddedFields(f));
+                        recordType = embeddedRecordType(f);
+                    }
+
+                    indexes[i] = position + 1;
 
-            CursorRecordInitialiser reset() {
-                offset = 0;
-                return this;
+                    if (nested != null) {
+                        if (rows == null) {
+                            rows = new AbstractRow[size];
+                            types = new Class[size];
+                            initialisers = (CursorRecordInitialiser[]) new CursorImpl.CursorIterator.CursorRecordInitialiser[size];
+                            converted = new boolean[size];
+                        }
+
+                        rows[i] = nested;
+                        types[i] = recordType;
+                        initialisers[i] = new CursorRecordInitialiser(nested, position);
+                        converted[i] = f != field;
+                        position += initialisers[i].width;
+                    }
+                    else
+                        position++;
+                }
+
+                this.nestedRows = rows;
+                this.nestedRecordTypes = types;
+                this.nestedInitialisers = initialisers;
+                this.nestedConverted = converted;
+                this.width = position - offset;
             }
 
             @Override
             public AbstractRecord apply(AbstractRecord record) throws SQLException {
-                ctx.record(record);
-                listener.recordStart(ctx);
-                int size = initialiserFields.size();
 
+                // Skip per-record events if no listener is interested in them
+                if (recordEvents) {
+                    ctx.record(record);
+                    listener.recordStart(ctx);
+                }
+
+                int size = initialiserFields.length;
 
 
 
@@ -1522,8 +1597,16 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
 
 
-                for (int i = 0; i < size; i++)
-                    setValue(record, initialiserFields.field(i), i);
+
+                if (nestedInitialisers == null)
+                    for (int i = 0; i < size; i++)
+                        setValue(record, initialiserFields[i], i);
+                else
+                    for (int i = 0; i < size; i++)
+                        if (nestedInitialisers[i] == null)
+                            setValue(record, initialiserFields[i], i);
+                        else
+                            setNestedValue(record, initialiserFields[i], i);
 
                 if (intern != null)
                     for (int i = 0; i < intern.length; i++)
@@ -1531,7 +1614,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
                             record.intern0(i);
 
                 ctx.record(record);
-                listener.recordEnd(ctx);
+
+                if (recordEvents)
+                    listener.recordEnd(ctx);
 
                 return record;
             }
@@ -1542,53 +1627,43 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             @SuppressWarnings("unchecked")
             private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
                 try {
-                    T value;
-                    AbstractRow<?> nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
-
-                    // [#7100] TODO: This should be transparent to the CursorImpl
-                    //         RowField may have a Row[N].mapping(...) applied
-                    Field<?> f = uncoerce(field);
-
-                    // [#13560] Queries may decide themselves to replace the
-                    //          flattening emulation by the MULTISET emulation
-                    if (f instanceof AbstractRowAsField
-                            && NO_NATIVE_SUPPORT.contains(ctx.dialect())
-                            && !TRUE.equals(ctx.data(DATA_MULTISET_CONTENT))) {
-                        nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
-                        recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
-                    }
-                    else if (f.getDataType().isEmbeddable()) {
-                        nested = Tools.row0(embeddedFields(f));
-                        recordType = embeddedRecordType(f);
-                    }
-
-                    int nestedOffset = offset + index;
-                    if (nested != null) {
-                        CursorRecordInitialiser operation = new CursorRecordInitialiser(nested, nestedOffset);
-                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) recordType, (AbstractRow<AbstractRecord>) nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(operation);
+                    rsContext.index(indexes[index]);
+                    rsContext.field((Field) field);
+                    field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
+                    T value = (T) rsContext.value();
 
-                        // [#7100] TODO: Is there a more elegant way to do this?
-                        if (f != field)
-                            value = ((ContextConverter<Object, T>) field.getConverter()).from(value, ctx.converterContext());
+                    record.setValueAndOriginal(index, value);
+                }
 
-                        offset += operation.offset - nestedOffset + nested.size() - 1;
-                    }
-                    else {
-                        rsContext.index(nestedOffset + 1);
-                        rsContext.field((Field) field);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
-                    }
+                // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
+                catch (Exception e) {
+                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + indexes[index], e);
+                }
+            }
 
-                    record.values[index] = value;
-                    record.originals[index] = value;
+            /**
+             * Utility method to prevent unnecessary unchecked conversions
+             */
+            @SuppressWarnings("unchecked")
+            private final <T> void setNestedValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
+                try {
+                    T value = (T) Tools.newRecord(
+                        true,
+                        (Class<AbstractRecord>) nestedRecordTypes[index],
+                        (AbstractRow<AbstractRecord>) nestedRows[index],
+                        originalConfiguration
+                    ).operate(nestedInitialisers[index]);
+
+                    // [#7100] TODO: Is there a more elegant way to do this?
+                    if (nestedConverted[index])
+                        value = ((ContextConverter<Object, T>) field.getConverter()).from(value, ctx.converterContext());
+
+                    record.setValueAndOriginal(index, value);
                 }
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
                 catch (Exception e) {
-                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + indexes[index], e);
                 }
             }
         }
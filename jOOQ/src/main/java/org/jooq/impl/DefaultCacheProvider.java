@@ -37,19 +37,18 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
+import org.jooq.conf.Settings;
 
 /**
- * A default implementation producing a {@link ConcurrentHashMap} in most cases,
- * or a synchronized LRU cache where appropriate.
+ * A default implementation producing a {@link ClockCache} for all cache types,
+ * bounded according to the relevant {@link Settings}.
  *
  * @author Lukas Eder
  */
@@ -57,15 +56,30 @@ final class DefaultCacheProvider implements CacheProvider {
 
     @Override
     public Map<Object, Object> provide(CacheContext ctx) {
-        switch (ctx.cacheType()) {
+        Settings settings = settings(ctx.configuration());
 
-            // TODO: Is there a better implementation than wrapping LinkedHashMap
-            // in synchronizedMap(), i.e. one that does not use a monitor?
-            case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
+        switch (ctx.cacheType().category) {
+            case REFLECTION:
+                return new ClockCache<>(defaultIfNull(settings.getReflectionCacheSize(), 0));
+
+            case RECORD_MAPPER:
+                return new ClockCache<>(defaultIfNull(settings.getCacheRecordMappersSize(), 0));
+
+            case PARSING_CONNECTION:
+                return new ClockCache<>(defaultIfNull(settings.getCacheParsingConnectionLRUCacheSize(), 8192));
+
+            case RENDERED_SQL:
+                return new ClockCache<>(defaultIfNull(settings.getCacheRenderedSQLLRUCacheSize(), 8192));
+
+            // Derived configurations may append their own listeners
+            case EXECUTE_LISTENER:
+                return new ClockCache<>(64);
+
+            case META_SNAPSHOT:
+                return new ClockCache<>(1);
 
             default:
-                return new ConcurrentHashMap<>();
+                return new ClockCache<>(0);
         }
     }
 }
@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.SQLDialect.DEFAULT;
 import static org.jooq.impl.Tools.SimpleDataKey.DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION;
 
@@ -1847,7 +1848,7 @@ public class DefaultConfiguration extends AbstractConfiguration {
     public final ExecutorProvider executorProvider() {
         return executorProvider != null
              ? executorProvider
-             : new DefaultExecutorProvider();
+             : new DefaultExecutorProvider(TRUE.equals(settings().isExecutorVirtualThreads()));
     }
 
     @Override
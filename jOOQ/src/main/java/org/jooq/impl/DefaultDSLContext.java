@@ -1509,10 +1509,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                 for (String[] values : strings.subList(firstRowIndex, strings.size())) {
                     RecordImplN record = new RecordImplN(row);
 
-                    for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-                        record.values[i] = values[i];
-                        record.originals[i] = values[i];
-                    }
+                    for (int i = 0; i < Math.min(values.length, fields.length); i++)
+                        record.setValueAndOriginal(i, values[i]);
 
                     result.add(record);
                 }
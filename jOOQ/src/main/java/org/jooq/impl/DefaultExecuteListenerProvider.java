@@ -82,6 +82,11 @@ public class DefaultExecuteListenerProvider implements ExecuteListenerProvider,
         return listener;
     }
 
+    @Override
+    public final boolean singleton() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return listener.toString();
@@ -39,21 +39,68 @@ package org.jooq.impl;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+
+import org.jooq.tools.JooqLogger;
 
 /**
  * A default {@link Executor} implementation.
+ * <p>
+ * If {@link org.jooq.conf.Settings#isExecutorVirtualThreads()} is set, and the
+ * JVM supports virtual threads, each task is run on a new virtual thread.
+ * Otherwise, the {@link ForkJoinPool#commonPool()} is used, or a new thread per
+ * task, if the common pool has no parallelism.
  *
  * @author Lukas Eder
  */
 public class DefaultExecutor implements Executor {
 
-    private static final Executor EXECUTOR         =
+    private static final JooqLogger log              = JooqLogger.getLogger(DefaultExecutor.class);
+    private static final Executor   EXECUTOR         =
         ForkJoinPool.getCommonPoolParallelism() > 1
       ? ForkJoinPool.commonPool()
       : command -> new Thread(command).start();
+    private static final Executor   VIRTUAL_EXECUTOR = virtualThreadExecutor();
+
+    private final Executor          executor;
+
+    public DefaultExecutor() {
+        this(false);
+    }
+
+    DefaultExecutor(boolean virtualThreads) {
+        this.executor = virtualThreads && VIRTUAL_EXECUTOR != null ? VIRTUAL_EXECUTOR : EXECUTOR;
+    }
 
     @Override
     public final void execute(Runnable command) {
-        EXECUTOR.execute(command);
+        executor.execute(command);
+    }
+
+    /**
+     * Whether this executor runs its tasks on virtual threads.
+     */
+    final boolean virtualThreads() {
+        return executor == VIRTUAL_EXECUTOR;
+    }
+
+    /**
+     * Look up <code>Thread.ofVirtual().factory()</code> reflectively, as jOOQ
+     * is still built for JVMs that don't have virtual threads.
+     */
+    private static final Executor virtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = Class.forName("java.lang.Thread$Builder").getMethod("name", String.class, long.class).invoke(builder, "jooq-virtual-", 0L);
+            ThreadFactory factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+
+            return command -> factory.newThread(command).start();
+        }
+
+        // Virtual threads are not available, or still a preview feature
+        catch (Exception | LinkageError e) {
+            log.debug("Virtual threads", "Virtual threads are not supported by this JVM: " + e);
+            return null;
+        }
     }
 }
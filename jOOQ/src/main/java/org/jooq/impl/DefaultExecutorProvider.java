@@ -50,8 +50,22 @@ import org.jooq.ExecutorProvider;
  */
 public class DefaultExecutorProvider implements ExecutorProvider, Serializable {
 
+    private final boolean virtualThreads;
+
+    public DefaultExecutorProvider() {
+        this(false);
+    }
+
+    /**
+     * Create a provider whose executors run tasks on virtual threads, if
+     * <code>virtualThreads</code> is set and the JVM supports them.
+     */
+    public DefaultExecutorProvider(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     @Override
     public final Executor provide() {
-        return new DefaultExecutor();
+        return new DefaultExecutor(virtualThreads);
     }
 }
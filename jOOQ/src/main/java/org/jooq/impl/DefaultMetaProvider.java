@@ -37,7 +37,13 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.conf.SettingsTools.metaSnapshotCaching;
+import static org.jooq.impl.CacheType.CACHE_META_SNAPSHOT;
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
 import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.jooq.Configuration;
 import org.jooq.Meta;
@@ -61,7 +67,51 @@ public class DefaultMetaProvider implements MetaProvider {
 
     @Override
     public Meta provide() {
-        return new MetaImpl(configuration, null);
+        if (metaSnapshotCaching(configuration.settings()))
+            return snapshot();
+        else
+            return new MetaImpl(configuration, null);
+    }
+
+    /**
+     * Get a shared snapshot of the {@link MetaImpl}, refreshing it if it has
+     * expired.
+     */
+    private final Meta snapshot() {
+        Supplier<?> key = () -> CACHE_META_SNAPSHOT;
+        CachedSnapshot s = Cache.run(configuration, () -> new CachedSnapshot(configuration), CACHE_META_SNAPSHOT, key);
+        int ttl = defaultIfNull(configuration.settings().getCacheMetaSnapshotTimeToLive(), 0);
+
+        if (ttl > 0 && configuration.clock().millis() - s.created >= ttl * 1000L) {
+            if (configuration.data(CACHE_META_SNAPSHOT) instanceof Map<?, ?> m)
+                m.remove(key.get(), s);
+
+            s = Cache.run(configuration, () -> new CachedSnapshot(configuration), CACHE_META_SNAPSHOT, key);
+        }
+
+        return s.meta;
+    }
+
+    private static final class CachedSnapshot {
+        final Meta meta;
+        final long created;
+
+        CachedSnapshot(Configuration configuration) {
+            this.created = configuration.clock().millis();
+            this.meta = new MetaImpl(configuration, null).snapshot();
+
+            // The snapshot initialises its lookup caches lazily. Do this before
+            // publishing it to other threads.
+            meta.getCatalogs();
+            meta.getSchemas();
+            meta.getTables();
+            meta.getDomains();
+            meta.getSequences();
+            meta.getPrimaryKeys();
+            meta.getUniqueKeys();
+            meta.getForeignKeys();
+            meta.getIndexes();
+        }
     }
 
     /**
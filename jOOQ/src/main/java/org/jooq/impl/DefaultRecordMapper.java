@@ -43,6 +43,7 @@ import static java.util.Collections.emptyList;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.EMPTY_OBJECT;
 import static org.jooq.impl.Tools.configuration;
 import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
@@ -57,9 +58,13 @@ import static org.jooq.impl.Tools.newRecord;
 import static org.jooq.impl.Tools.recordType;
 import static org.jooq.impl.Tools.row0;
 import static org.jooq.tools.reflect.Reflect.accessible;
+import static org.jooq.tools.reflect.Reflect.wrapper;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -782,13 +787,94 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
-    private static final record ConstructorCall<E>(Constructor<? extends E> constructor) implements Callable<E> {
+    private static final record ConstructorCall<E>(Constructor<? extends E> constructor, MethodHandle handle) implements Callable<E> {
+        ConstructorCall(Constructor<? extends E> constructor) {
+            this(constructor, constructorHandle(constructor));
+        }
+
         @Override
         public E call() throws Exception {
-            return constructor.newInstance();
+            try {
+                return (E) handle.invokeExact(EMPTY_OBJECT);
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    private static final MethodType SETTER      = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Get a {@link MethodHandle} of type <code>(Object, Object)void</code> that
+     * writes a value to a member.
+     * <p>
+     * If the member cannot be accessed through a {@link Lookup} (e.g. because
+     * of module readability), the handle delegates to reflection instead.
+     */
+    private static final MethodHandle setterHandle(java.lang.reflect.Field member) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(member).asType(SETTER);
+        }
+        catch (IllegalAccessException e) {
+            return reflectionHandle(java.lang.reflect.Field.class, "set", SETTER).bindTo(member);
         }
     }
 
+    /**
+     * Get a {@link MethodHandle} of type <code>(Object, Object)void</code> that
+     * invokes a single argument setter method, discarding any return value.
+     */
+    private static final MethodHandle setterHandle(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asFixedArity().asType(SETTER);
+        }
+        catch (IllegalAccessException e) {
+            return reflectionHandle(Method.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class))
+                .bindTo(method)
+                .asCollector(Object[].class, 1)
+                .asType(SETTER);
+        }
+    }
+
+    /**
+     * Get a {@link MethodHandle} of type <code>(Object[])Object</code> that
+     * invokes a constructor with an argument array.
+     */
+    private static final MethodHandle constructorHandle(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(CONSTRUCTOR);
+        }
+        catch (IllegalAccessException e) {
+            return reflectionHandle(Constructor.class, "newInstance", CONSTRUCTOR).bindTo(constructor);
+        }
+    }
+
+    private static final MethodHandle reflectionHandle(Class<?> type, String name, MethodType methodType) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(type, name, methodType).asFixedArity();
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new MappingException("Cannot look up " + type.getName() + "." + name, e);
+        }
+    }
+
+    /**
+     * Whether values of a field can be passed to a target type as they are,
+     * without looking up a {@link org.jooq.Converter}.
+     */
+    private static final boolean noConversion(Field<?> field, Class<?> type) {
+        return field.getType() == type || type.isPrimitive() && wrapper(type) == field.getType();
+    }
+
     /**
      * Convert a record into a mutable POJO type
      * <p>
@@ -801,6 +887,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final boolean                          useAnnotations;
         private final List<java.lang.reflect.Field>[]  members;
         private final List<java.lang.reflect.Method>[] methods;
+        private final MemberWriter[][]                 writers;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
         private final E                                instance;
 
@@ -873,6 +960,21 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                         );
                 });
             }
+
+            this.writers = new MemberWriter[fields.length][];
+            for (int i = 0; i < fields.length; i++) {
+                List<MemberWriter> list = new ArrayList<>();
+
+                // [#935] Avoid setting final fields
+                for (java.lang.reflect.Field member : members[i])
+                    if ((member.getModifiers() & Modifier.FINAL) == 0)
+                        list.add(new MemberWriter(fields[i], setterHandle(member), member.getType(), member.getGenericType()));
+
+                for (java.lang.reflect.Method method : methods[i])
+                    list.add(new MemberWriter(fields[i], setterHandle(method), method.getParameterTypes()[0], method.getGenericParameterTypes()[0]));
+
+                writers[i] = list.toArray(new MemberWriter[0]);
+            }
         }
 
         final boolean isMutable() {
@@ -893,25 +995,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             try {
                 final E result = instance != null ? instance : constructor.call();
 
-                for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
-
-                        // [#935] Avoid setting final fields
-                        if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
-
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        Class<?> mType = method.getParameterTypes()[0];
-                        Object value = record.get(i, mType);
-
-                        // [#3082] [#10910] Try mapping nested collection types
-                        Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
-                            method.invoke(result, list);
-                        else
-                            method.invoke(result, record.get(i, mType));
-                    }
-                }
+                for (int i = 0; i < fields.length; i++)
+                    for (MemberWriter writer : writers[i])
+                        writer.write(record, i, result);
 
                 for (final Entry<String, NestedMappingInfo> entry : nestedMappingInfos.entrySet()) {
                     final String prefix = entry.getKey();
@@ -940,52 +1026,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
                 return result;
             }
-            catch (Exception e) {
-                throw new MappingException("An error occurred when mapping record to " + type, e);
-            }
-        }
-
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    map(record.get(index, byte.class), result, member);
-                else if (mType == short.class)
-                    map(record.get(index, short.class), result, member);
-                else if (mType == int.class)
-                    map(record.get(index, int.class), result, member);
-                else if (mType == long.class)
-                    map(record.get(index, long.class), result, member);
-                else if (mType == float.class)
-                    map(record.get(index, float.class), result, member);
-                else if (mType == double.class)
-                    map(record.get(index, double.class), result, member);
-                else if (mType == boolean.class)
-                    map(record.get(index, boolean.class), result, member);
-                else if (mType == char.class)
-                    map(record.get(index, char.class), result, member);
-            }
-
-            else {
-                Object value = record.get(index, mType);
-
-                // [#3082] [#10910] [#11213] Try mapping nested collection types
-                Object list = tryConvertToList(value, mType, member.getGenericType());
-                if (list != null)
-                    member.set(result, list);
-                else
-                    map(value, result, member);
+            catch (Error e) {
+                throw e;
             }
-        }
-
-        private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
-            if (value instanceof Collection && (mType == List.class || mType == ArrayList.class) && genericType instanceof ParameterizedType) {
-                Class<?> componentType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                return Convert.convert((Collection<?>) value, componentType);
+            catch (Throwable e) {
+                throw new MappingException("An error occurred when mapping record to " + type, e);
             }
-            else
-                return null;
         }
 
         private final void map(Object value, Object result, java.lang.reflect.Field member) throws IllegalAccessException {
@@ -1015,6 +1061,56 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    /**
+     * A member or setter method of the POJO, whose write access and
+     * conversion are resolved once per mapper.
+     */
+    private static final class MemberWriter {
+        final MethodHandle handle;
+        final Class<?>     mType;
+        final Type         genericType;
+        final boolean      convert;
+        final boolean      list;
+        final Object       nullValue;
+
+        MemberWriter(Field<?> field, MethodHandle handle, Class<?> mType, Type genericType) {
+            this.handle = handle;
+            this.mType = mType;
+            this.genericType = genericType;
+            this.convert = !noConversion(field, mType);
+            this.list = mType == List.class || mType == ArrayList.class;
+            this.nullValue = Reflect.initValue(mType);
+        }
+
+        final void write(Record record, int index, Object result) throws Throwable {
+            Object value;
+
+            if (convert)
+                value = record.get(index, mType);
+            else if ((value = record.get(index)) == null)
+                value = nullValue;
+
+            // [#3082] [#10910] [#11213] Try mapping nested collection types
+            if (list) {
+                Object l = tryConvertToList(value, mType, genericType);
+
+                if (l != null)
+                    value = l;
+            }
+
+            handle.invokeExact(result, value);
+        }
+
+        private static final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
+            if (value instanceof Collection && (mType == List.class || mType == ArrayList.class) && genericType instanceof ParameterizedType) {
+                Class<?> componentType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                return Convert.convert((Collection<?>) value, componentType);
+            }
+            else
+                return null;
+        }
+    }
+
     /**
      * Convert a record into an "immutable" POJO (final fields, "matching"
      * constructor).
@@ -1023,6 +1119,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         final Constructor<E>                          constructor;
         final Class<?>[]                              parameterTypes;
+        private final MethodHandle                    handle;
+        private final Object[]                        initValues;
+        private final boolean[]                       convert;
         private final boolean                         nested;
         private final NestedMappingInfo[]             nestedMappingInfo;
         private final Integer[]                       propertyIndexes;
@@ -1038,6 +1137,10 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
             this.constructor = accessible(constructor);
             this.parameterTypes = parameterTypes;
+            this.handle = constructorHandle(this.constructor);
+
+            // [#10425] Initialise array to constructor parameter type init values
+            this.initValues = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
             this.nestedMappingInfo = new NestedMappingInfo[size];
             this.propertyIndexes = new Integer[fields.length];
             this.propertyNames = propertyNames;
@@ -1144,22 +1247,29 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
 
             this.nested = hasNestedFields;
+            this.convert = new boolean[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                convert[i] = propertyIndexes[i] == null
+                    || propertyIndexes[i] >= parameterTypes.length
+                    || !noConversion(fields[i], parameterTypes[propertyIndexes[i]]);
         }
 
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                return (E) handle.invokeExact(nested ? mapNested(record) : mapNonnested(record));
             }
-            catch (Exception e) {
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
                 throw new MappingException("An error occurred when mapping record to " + type, e);
             }
         }
 
         private final Object[] mapNonnested(R record) {
-
-            // [#10425] Initialise array to constructor parameter type init values
-            Object[] converted = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
+            Object[] converted = initValues.clone();
 
             for (int i = 0; i < record.size(); i++)
                 set(record, i, converted, propertyIndexes[i]);
@@ -1171,7 +1281,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
             // TODO: This logic could be applicable to mapNested() as well?
             if (toIndex != null) {
-                to[toIndex] = from.get(fromIndex, parameterTypes[toIndex]);
+                Object value;
+
+                if (convert[fromIndex])
+                    to[toIndex] = from.get(fromIndex, parameterTypes[toIndex]);
+                else if ((value = from.get(fromIndex)) != null)
+                    to[toIndex] = value;
             }
             else {
                 for (java.lang.reflect.Field member : members[fromIndex]) {
@@ -39,14 +39,20 @@ package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
 import static org.jooq.conf.InvocationOrder.REVERSE;
+import static org.jooq.impl.CacheType.CACHE_EXECUTE_LISTENERS;
 import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
+import static org.jooq.impl.Tools.map;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
+import org.jooq.conf.InvocationOrder;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.JooqLogger;
@@ -59,10 +65,26 @@ import org.jooq.tools.LoggerListener;
  * @author Lukas Eder
  */
 final class ExecuteListeners implements ExecuteListener {
-    private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
-    private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteListener     EMPTY_LISTENER         = new DefaultExecuteListener();
+    private static final JooqLogger          LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final ExecuteEvent[]      EVENTS                 = ExecuteEvent.values();
+    private static final ClassValue<Integer> HANDLED_EVENTS         = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return handledEvents(type);
+        }
+    };
 
-    private final ExecuteListener[][]    listeners;
+    /**
+     * The listeners per {@link ExecuteEvent}, containing only those listeners
+     * that handle the event, in the event's invocation order.
+     */
+    private final ExecuteListener[][]        listeners;
+
+    /**
+     * Whether any listener is interested in per-record events.
+     */
+    private final boolean                    recordEvents;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
@@ -98,25 +120,85 @@ final class ExecuteListeners implements ExecuteListener {
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
     private static final ExecuteListener[][] listeners(ExecuteContext ctx) {
+        Configuration configuration = ctx.configuration();
+        Settings settings = ctx.settings();
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+
+        // [#6580] Fetching server output may require some pre / post actions around the actual statement
+        boolean fetchServerOutput = SettingsTools.getFetchServerOutputSize(0, settings) > 0;
+
+        // [#6051] The previously used StopWatchListener is no longer included by default
+        // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
+        //         we do not DEBUG log anyway.
+        boolean logging = !FALSE.equals(settings.isExecuteLogging()) && LOGGER_LISTENER_LOGGER.isDebugEnabled();
+
+        if (!fetchServerOutput && !logging && providers.length == 0)
+            return null;
+
+        InvocationOrder startOrder = settings.getExecuteListenerStartInvocationOrder();
+        InvocationOrder endOrder = settings.getExecuteListenerEndInvocationOrder();
+
+        // The resolved listeners can be reused if providers don't produce new
+        // listeners per execution. They're cached in the original
+        // configuration, as the ExecuteContext's derived configuration and its
+        // data() don't outlive the execution.
+        if (singletons(providers))
+            return Cache.run(
+                ctx instanceof DefaultExecuteContext c ? c.originalConfiguration() : configuration,
+                () -> listeners(providers, fetchServerOutput, logging, startOrder, endOrder),
+                CACHE_EXECUTE_LISTENERS,
+                () -> new ListenersKey(providers, fetchServerOutput, logging, startOrder, endOrder)
+            );
+        else
+            return listeners(providers, fetchServerOutput, logging, startOrder, endOrder);
+    }
+
+    /**
+     * Wrap listeners that are added to a configuration for a single call, e.g.
+     * through {@link Configuration#deriveAppending(ExecuteListener...)}, in
+     * providers that are not {@link ExecuteListenerProvider#singleton()}, such
+     * that their configurations don't populate the
+     * {@link CacheType#CACHE_EXECUTE_LISTENERS}.
+     */
+    static final ExecuteListenerProvider[] transientProviders(ExecuteListener... listeners) {
+        return map(listeners, TransientProvider::new, ExecuteListenerProvider[]::new);
+    }
+
+    private static final record TransientProvider(ExecuteListener listener) implements ExecuteListenerProvider, Serializable {
+
+        @Override
+        public ExecuteListener provide() {
+            return listener;
+        }
+    }
+
+    private static final boolean singletons(ExecuteListenerProvider[] providers) {
+        for (ExecuteListenerProvider provider : providers)
+            if (provider != null && !provider.singleton())
+                return false;
+
+        return true;
+    }
+
+    private static final ExecuteListener[][] listeners(
+        ExecuteListenerProvider[] providers,
+        boolean fetchServerOutput,
+        boolean logging,
+        InvocationOrder startOrder,
+        InvocationOrder endOrder
+    ) {
         List<ExecuteListener> list = null;
 
         // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
         // -------------------------------------------------------------------------------------------------
 
-        // [#6580] Fetching server output may require some pre / post actions around the actual statement
-        if (SettingsTools.getFetchServerOutputSize(0, ctx.settings()) > 0)
+        if (fetchServerOutput)
             (list = init(list)).add(new FetchServerOutputListener());
 
-        // [#6051] The previously used StopWatchListener is no longer included by default
-        if (!FALSE.equals(ctx.settings().isExecuteLogging())) {
-
-            // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
-            //         we do not DEBUG log anyway.
-            if (LOGGER_LISTENER_LOGGER.isDebugEnabled())
-                (list = init(list)).add(new LoggerListener());
-        }
+        if (logging)
+            (list = init(list)).add(new LoggerListener());
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
+        for (ExecuteListenerProvider provider : providers)
 
             // Could be null after deserialisation
             if (provider != null)
@@ -127,24 +209,109 @@ final class ExecuteListeners implements ExecuteListener {
 
         ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
         ExecuteListener[] rev = null;
+        ExecuteListener[] start = startOrder != REVERSE ? def : (                     rev = Tools.reverse(def.clone()));
+        ExecuteListener[] end = endOrder     != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())));
+
+        // Most listeners handle only few events. Avoid dispatching the others.
+        int all = -1;
+        int any = 0;
+
+        for (ExecuteListener listener : def) {
+            int handled = handledEvents(listener);
 
-        return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
-        };
+            all &= handled;
+            any |= handled;
+        }
+
+        ExecuteListener[][] result = new ExecuteListener[EVENTS.length][];
+        for (ExecuteEvent event : EVENTS) {
+            int mask = 1 << event.ordinal();
+
+            result[event.ordinal()] =
+                  (all & mask) != 0
+                ? (event.end ? end : start)
+                : (any & mask) == 0
+                ? EMPTY_EXECUTE_LISTENER
+                : filter(event.end ? end : start, mask);
+        }
+
+        return result;
+    }
+
+    private static final ExecuteListener[] filter(ExecuteListener[] listeners, int mask) {
+        List<ExecuteListener> result = new ArrayList<>(listeners.length);
+
+        for (ExecuteListener listener : listeners)
+            if ((handledEvents(listener) & mask) != 0)
+                result.add(listener);
+
+        return result.toArray(EMPTY_EXECUTE_LISTENER);
     }
 
     private static final List<ExecuteListener> init(List<ExecuteListener> result) {
         return result == null ? new ArrayList<>() : result;
     }
 
+    /**
+     * The bit mask of {@link ExecuteEvent} ordinals handled by a listener.
+     */
+    static final int handledEvents(ExecuteListener listener) {
+        if (listener instanceof CallbackExecuteListener c)
+            return c.handledEvents();
+        else
+            return HANDLED_EVENTS.get(listener.getClass());
+    }
+
+    /**
+     * Detect the {@link ExecuteEvent}s that a listener type handles by
+     * checking which of the {@link ExecuteListener} default methods it
+     * overrides.
+     */
+    private static final int handledEvents(Class<?> type) {
+        int result = 0;
+
+        for (ExecuteEvent event : EVENTS) {
+            try {
+                if (type.getMethod(event.method, ExecuteContext.class).getDeclaringClass() != ExecuteListener.class)
+                    result |= 1 << event.ordinal();
+            }
+
+            // Be conservative, e.g. in the presence of a SecurityManager
+            catch (Exception e) {
+                result |= 1 << event.ordinal();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether a listener obtained from {@link #get(ExecuteContext)} is
+     * interested in the per-record events
+     * {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)}.
+     */
+    static final boolean recordEvents(ExecuteListener listener) {
+        if (listener instanceof ExecuteListeners l)
+            return l.recordEvents;
+        else
+            return listener != EMPTY_LISTENER;
+    }
+
     private ExecuteListeners(ExecuteListener[][] listeners) {
         this.listeners = listeners;
+
+        // Nested result events may depend on the record level
+        this.recordEvents =
+               listeners[ExecuteEvent.RECORD_START.ordinal()].length > 0
+            || listeners[ExecuteEvent.RECORD_END.ordinal()].length > 0
+            || listeners[ExecuteEvent.RESULT_START.ordinal()].length > 0
+            || listeners[ExecuteEvent.RESULT_END.ordinal()].length > 0;
     }
 
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.START.ordinal()])
             listener.start(ctx);
     }
 
@@ -166,37 +333,37 @@ final class ExecuteListeners implements ExecuteListener {
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RENDER_START.ordinal()])
             listener.renderStart(ctx);
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RENDER_END.ordinal()])
             listener.renderEnd(ctx);
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.PREPARE_START.ordinal()])
             listener.prepareStart(ctx);
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.PREPARE_END.ordinal()])
             listener.prepareEnd(ctx);
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.BIND_START.ordinal()])
             listener.bindStart(ctx);
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.BIND_END.ordinal()])
             listener.bindEnd(ctx);
     }
 
@@ -205,31 +372,31 @@ final class ExecuteListeners implements ExecuteListener {
         if (ctx instanceof DefaultExecuteContext d)
             d.incrementStatementExecutionCount();
 
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.EXECUTE_START.ordinal()])
             listener.executeStart(ctx);
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.EXECUTE_END.ordinal()])
             listener.executeEnd(ctx);
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.FETCH_START.ordinal()])
             listener.fetchStart(ctx);
     }
 
     @Override
     public final void outStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.OUT_START.ordinal()])
             listener.outStart(ctx);
     }
 
     @Override
     public final void outEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.OUT_END.ordinal()])
             listener.outEnd(ctx);
     }
 
@@ -237,7 +404,7 @@ final class ExecuteListeners implements ExecuteListener {
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RESULT_START.ordinal()])
             listener.resultStart(ctx);
 
         ((DefaultExecuteContext) ctx).resultLevel++;
@@ -245,7 +412,7 @@ final class ExecuteListeners implements ExecuteListener {
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RECORD_START.ordinal()])
             listener.recordStart(ctx);
 
         ((DefaultExecuteContext) ctx).recordLevel++;
@@ -255,7 +422,7 @@ final class ExecuteListeners implements ExecuteListener {
     public final void recordEnd(ExecuteContext ctx) {
         ((DefaultExecuteContext) ctx).recordLevel--;
 
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RECORD_END.ordinal()])
             listener.recordEnd(ctx);
     }
 
@@ -264,7 +431,7 @@ final class ExecuteListeners implements ExecuteListener {
         ((DefaultExecuteContext) ctx).resultLevel--;
         resultStart = false;
 
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.RESULT_END.ordinal()])
             listener.resultEnd(ctx);
 
         if (fetchEnd)
@@ -276,25 +443,88 @@ final class ExecuteListeners implements ExecuteListener {
         if (resultStart)
             fetchEnd = true;
         else
-            for (ExecuteListener listener : listeners[1])
+            for (ExecuteListener listener : listeners[ExecuteEvent.FETCH_END.ordinal()])
                 listener.fetchEnd(ctx);
     }
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
+        for (ExecuteListener listener : listeners[ExecuteEvent.END.ordinal()])
             listener.end(ctx);
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.EXCEPTION.ordinal()])
             listener.exception(ctx);
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
+        for (ExecuteListener listener : listeners[ExecuteEvent.WARNING.ordinal()])
             listener.warning(ctx);
     }
+
+    /**
+     * The cache key of a resolved listener chain. The provider arrays are
+     * compared by their contents, as derived {@link Configuration}s may
+     * combine the same providers in new arrays.
+     */
+    private static final record ListenersKey(
+        ExecuteListenerProvider[] providers,
+        boolean fetchServerOutput,
+        boolean logging,
+        InvocationOrder startOrder,
+        InvocationOrder endOrder
+    ) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ListenersKey k
+                && Arrays.equals(providers, k.providers)
+                && fetchServerOutput == k.fetchServerOutput
+                && logging == k.logging
+                && startOrder == k.startOrder
+                && endOrder == k.endOrder;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(providers) * 31 + (fetchServerOutput ? 2 : 0) + (logging ? 1 : 0);
+        }
+    }
+
+    /**
+     * The events that are dispatched to {@link ExecuteListener}s.
+     */
+    enum ExecuteEvent {
+        START("start", false),
+        RENDER_START("renderStart", false),
+        RENDER_END("renderEnd", true),
+        PREPARE_START("prepareStart", false),
+        PREPARE_END("prepareEnd", true),
+        BIND_START("bindStart", false),
+        BIND_END("bindEnd", true),
+        EXECUTE_START("executeStart", false),
+        EXECUTE_END("executeEnd", true),
+        OUT_START("outStart", false),
+        OUT_END("outEnd", true),
+        FETCH_START("fetchStart", false),
+        RESULT_START("resultStart", false),
+        RECORD_START("recordStart", false),
+        RECORD_END("recordEnd", true),
+        RESULT_END("resultEnd", true),
+        FETCH_END("fetchEnd", true),
+        END("end", true),
+        EXCEPTION("exception", false),
+        WARNING("warning", false);
+
+        final String  method;
+        final boolean end;
+
+        ExecuteEvent(String method, boolean end) {
+            this.method = method;
+            this.end = end;
+        }
+    }
 }
@@ -0,0 +1,313 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+import org.jooq.QueryPartInternal;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+
+/**
+ * A stub {@link BindContext} that computes a structural fingerprint of a
+ * {@link QueryPart} tree, and collects its non-inline {@link Param} instances
+ * in the same order as they would be collected by a
+ * {@link DefaultRenderContext}.
+ * <p>
+ * The fingerprint covers the types of all visited {@link QueryPart} instances,
+ * all SQL strings, keywords and literals emitted along the way, as well as the
+ * data types, names and nullability of non-inline bind values. Two trees with
+ * the same fingerprint are expected to render the same SQL string, up to their
+ * bind values.
+ * <p>
+ * The values of inline bind values cannot be fingerprinted reliably, e.g.
+ * when their {@link Object#toString()} is not value based. Trees containing
+ * them are marked as {@link #inlined()}, and must not be cached by their
+ * fingerprint.
+ *
+ * @author Lukas Eder
+ */
+final class FingerprintContext extends AbstractBindContext {
+
+    final List<Param<?>>       params;
+    private final List<Object> tokens;
+    private long               h1;
+    private long               h2;
+    private boolean            inlined;
+
+    FingerprintContext(Configuration configuration, ExecuteContext ctx) {
+        super(configuration, ctx, null);
+
+        this.params = new ArrayList<>();
+        this.tokens = new ArrayList<>();
+        this.h1 = 0xCBF29CE484222325L;
+        this.h2 = 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * The fingerprint of everything that has been visited so far.
+     */
+    final Fingerprint fingerprint() {
+        Settings settings = settings();
+        return new Fingerprint(dialect(), settings, settings.hashCode(), h1, h2, params.size(), tokens);
+    }
+
+    /**
+     * Whether any inline bind values have been visited so far.
+     */
+    final boolean inlined() {
+        return inlined;
+    }
+
+    // ------------------------------------------------------------------------
+    // BindContext API
+    // ------------------------------------------------------------------------
+
+    @Override
+    protected final void bindInternal(QueryPartInternal internal) {
+        token(internal.getClass());
+
+        if (internal instanceof Param<?> param) {
+            boolean inline = param instanceof AbstractParam<?> a ? a.isInline(this) : param.isInline();
+            Object value = param.getValue();
+
+            token(inline ? 'I' : 'P');
+            token(param.getDataType());
+            token(param.getBinding().getClass());
+            token(param.getParamName());
+
+            if (inline) {
+                inlined = true;
+            }
+            else {
+                token(value == null ? 0 : 1);
+
+                if (value instanceof Object[] a)
+                    token(a.length);
+            }
+
+            // [#4650] Same logic as in DefaultRenderContext::visit0: Only
+            //         collect the Param if its content didn't collect any
+            int before = params.size();
+            super.bindInternal(internal);
+
+            if (!inline && before == params.size())
+                params.add(param);
+        }
+        else {
+
+            // [#1593] Plain SQL templates are not emitted to BindContexts
+            if (internal instanceof SQLImpl s)
+                token(s.sql);
+
+            super.bindInternal(internal);
+        }
+    }
+
+    @Override
+    public final BindContext keyword(String keyword) {
+        token('K');
+        token(keyword);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql) {
+        token('S');
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql, boolean literal) {
+        token(literal ? 'L' : 'S');
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentStart(String sql) {
+        return sql(sql);
+    }
+
+    @Override
+    public final BindContext sqlIndentEnd(String sql) {
+        return sql(sql);
+    }
+
+    @Override
+    public final BindContext sql(char sql) {
+        token('C');
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentStart(char sql) {
+        return sql(sql);
+    }
+
+    @Override
+    public final BindContext sqlIndentEnd(char sql) {
+        return sql(sql);
+    }
+
+    @Override
+    public final BindContext sql(int sql) {
+        token('N');
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(long sql) {
+        token('N');
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(float sql) {
+        token('F');
+        token(Float.floatToIntBits(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(double sql) {
+        token('F');
+        token(Double.doubleToLongBits(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext literal(String literal) {
+        token('Q');
+        token(literal);
+        return this;
+    }
+
+    // ------------------------------------------------------------------------
+    // Hashing
+    // ------------------------------------------------------------------------
+
+    /**
+     * Record a token, and mix it into the hashes. Tokens are compared by
+     * value when fingerprints are compared.
+     */
+    private final void token(Object token) {
+        tokens.add(token);
+
+        if (token instanceof String s)
+            mix(s);
+        else if (token instanceof Number n)
+            mix(n.longValue());
+        else if (token instanceof Character c)
+            mix(c.charValue());
+        else if (token instanceof Class<?> c)
+            mix(System.identityHashCode(c));
+        else
+            mix(token == null ? -1 : token.hashCode());
+    }
+
+    /**
+     * Two independent 64 bit hashes make accidental collisions of different
+     * structures unlikely, such that the tokens rarely need comparing.
+     */
+    private final void mix(long value) {
+        h1 = (h1 ^ value) * 0x100000001B3L;
+        h2 = Long.rotateLeft(h2 ^ (value * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+    }
+
+    private final void mix(String value) {
+        if (value == null) {
+            mix(-1);
+        }
+        else {
+            int l = value.length();
+            mix(l);
+
+            for (int i = 0; i < l; i++)
+                mix(value.charAt(i));
+        }
+    }
+
+    /**
+     * A structural fingerprint of a {@link QueryPart} tree.
+     * <p>
+     * {@link Settings} are compared by value, as derived configurations work
+     * with copies of their parent's settings. Their hash code is computed only
+     * once, when the fingerprint is created, such that settings modified in
+     * place produce new fingerprints. If the hashes match, the visited tokens
+     * are compared, too, such that a hash collision cannot produce a false
+     * match.
+     */
+    static final record Fingerprint(
+        SQLDialect dialect,
+        Settings settings,
+        int settingsHash,
+        long h1,
+        long h2,
+        int params,
+        List<Object> tokens
+    ) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Fingerprint f
+                && dialect == f.dialect
+                && settingsHash == f.settingsHash
+                && h1 == f.h1
+                && h2 == f.h2
+                && params == f.params
+                && (settings == f.settings || settings.equals(f.settings))
+                && tokens.equals(f.tokens);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(h1) ^ 31 * Long.hashCode(h2) ^ 961 * settingsHash;
+        }
+    }
+}
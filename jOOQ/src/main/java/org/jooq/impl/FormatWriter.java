@@ -0,0 +1,467 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.jooq.CSVFormat;
+
+/**
+ * A buffering {@link Writer} for the {@link org.jooq.Formattable} export
+ * methods.
+ * <p>
+ * Exports write many small fragments per record, which is expensive on most
+ * {@link Writer} implementations (e.g. synchronised or encoding writers). This
+ * writer collects the fragments in a <code>char[]</code> buffer, and escapes
+ * values straight into that buffer, without intermediary strings.
+ *
+ * @author Lukas Eder
+ */
+final class FormatWriter extends Writer {
+
+    private static final int    BUFFER_SIZE = 8192;
+    private static final char[] HEX         = "0123456789ABCDEF".toCharArray();
+
+    private final Writer        delegate;
+    private final char[]        buffer;
+    private int                 count;
+
+    private FormatWriter(Writer delegate) {
+        this.delegate = delegate;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    static final FormatWriter of(Writer writer) {
+        return writer instanceof FormatWriter w ? w : new FormatWriter(writer);
+    }
+
+    // -------------------------------------------------------------------------
+    // Writer API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void write(int c) throws IOException {
+        if (count == buffer.length)
+            flushBuffer();
+
+        buffer[count++] = (char) c;
+    }
+
+    @Override
+    public final void write(char[] c, int off, int len) throws IOException {
+        if (len > buffer.length - count) {
+            flushBuffer();
+
+            if (len > buffer.length) {
+                delegate.write(c, off, len);
+                return;
+            }
+        }
+
+        System.arraycopy(c, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public final void write(String s, int off, int len) throws IOException {
+
+        // Most fragments are short, e.g. separators or numbers, for which
+        // String.getChars() has a relatively high overhead
+        if (len <= 16 && len <= buffer.length - count) {
+            for (int i = 0; i < len; i++)
+                buffer[count++] = s.charAt(off + i);
+
+            return;
+        }
+
+        while (len > 0) {
+            if (count == buffer.length)
+                flushBuffer();
+
+            int n = Math.min(len, buffer.length - count);
+            s.getChars(off, off + n, buffer, count);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public final Writer append(CharSequence csq) throws IOException {
+        if (csq instanceof String s)
+            write(s, 0, s.length());
+        else
+            write(String.valueOf(csq));
+
+        return this;
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        flushBuffer();
+        delegate.flush();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        flushBuffer();
+        delegate.close();
+    }
+
+    private final void flushBuffer() throws IOException {
+        if (count > 0) {
+            delegate.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Formatting API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Write the decimal representation of a <code>long</code> value, like
+     * {@link Long#toString(long)}.
+     */
+    final void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+
+        if (buffer.length - count < 20)
+            flushBuffer();
+
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+
+        int end = count + digits(value);
+        for (int i = end - 1; i >= count; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        count = end;
+    }
+
+    private static final int digits(long value) {
+        int result = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Write a non-negative <code>int</code> value, left padded with zeros to
+     * a minimum number of digits. The caller must ensure enough buffer space.
+     */
+    private final void writePadded(int value, int minDigits) {
+        int end = count + Math.max(minDigits, digits(value));
+
+        for (int i = end - 1; i >= count; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        count = end;
+    }
+
+    /**
+     * Whether {@link #writeTemporal(Object)} supports values of a type.
+     */
+    static final boolean isTemporal(Class<?> type) {
+        return type == Timestamp.class
+            || type == LocalDateTime.class
+            || type == LocalDate.class
+            || type == LocalTime.class;
+    }
+
+    /**
+     * Write a temporal value of a type supported by
+     * {@link #isTemporal(Class)}, like its {@link Object#toString()} method.
+     * <p>
+     * The output only consists of digits and <code>"-+:. T"</code>, none of
+     * which require escaping in CSV, JSON, or XML.
+     */
+    @SuppressWarnings("deprecation")
+    final void writeTemporal(Object value) throws IOException {
+        if (buffer.length - count < 48)
+            flushBuffer();
+
+        if (value instanceof Timestamp t) {
+
+            // Like Timestamp.toString(), use the deprecated getters, which
+            // (unlike Timestamp.toLocalDateTime()) support Julian calendar dates
+            int year = t.getYear() + 1900;
+
+            // Timestamp.toString() doesn't produce meaningful BC years
+            if (year < 0) {
+                write(t.toString());
+                return;
+            }
+
+            writePadded(year, 4);
+            writeMonthDay(t.getMonth() + 1, t.getDate());
+            buffer[count++] = ' ';
+            writePadded(t.getHours(), 2);
+            buffer[count++] = ':';
+            writePadded(t.getMinutes(), 2);
+            buffer[count++] = ':';
+            writePadded(t.getSeconds(), 2);
+            buffer[count++] = '.';
+
+            // Like Timestamp.toString(), strip trailing zeros, but keep one
+            int nanos = t.getNanos();
+            int digits = 9;
+
+            if (nanos == 0)
+                digits = 1;
+            else
+                for (; nanos % 10 == 0; digits--)
+                    nanos /= 10;
+
+            writePadded(nanos, digits);
+        }
+        else if (value instanceof LocalDateTime d) {
+            writeDate(d.toLocalDate());
+            buffer[count++] = 'T';
+            writeTime(d.toLocalTime());
+        }
+        else if (value instanceof LocalDate d)
+            writeDate(d);
+        else
+            writeTime((LocalTime) value);
+    }
+
+    /**
+     * Write a date like {@link LocalDate#toString()}.
+     */
+    private final void writeDate(LocalDate d) {
+        int year = d.getYear();
+
+        if (year < 0)
+            buffer[count++] = '-';
+        else if (year > 9999)
+            buffer[count++] = '+';
+
+        writePadded(Math.abs(year), 4);
+        writeMonthDay(d.getMonthValue(), d.getDayOfMonth());
+    }
+
+    private final void writeMonthDay(int month, int day) {
+        buffer[count++] = '-';
+        writePadded(month, 2);
+        buffer[count++] = '-';
+        writePadded(day, 2);
+    }
+
+    /**
+     * Write a time like {@link LocalTime#toString()}.
+     */
+    private final void writeTime(LocalTime t) {
+        int second = t.getSecond();
+        int nano = t.getNano();
+
+        writePadded(t.getHour(), 2);
+        buffer[count++] = ':';
+        writePadded(t.getMinute(), 2);
+
+        if (second > 0 || nano > 0) {
+            buffer[count++] = ':';
+            writePadded(second, 2);
+
+            if (nano > 0) {
+                buffer[count++] = '.';
+
+                if (nano % 1_000_000 == 0)
+                    writePadded(nano / 1_000_000, 3);
+                else if (nano % 1_000 == 0)
+                    writePadded(nano / 1_000, 6);
+                else
+                    writePadded(nano, 9);
+            }
+        }
+    }
+
+    /**
+     * Write a CSV value, like <code>AbstractResult.formatCSV0()</code>, given
+     * a single character quote other than <code>'\\'</code>.
+     */
+    final void writeCSV(String s, char quote, CSVFormat.Quote mode) throws IOException {
+        int length = s.length();
+
+        switch (mode) {
+            case NEVER:
+                write(s, 0, length);
+                return;
+
+            case SPECIAL_CHARACTERS:
+                if (!containsCSVSpecialCharacters(s)) {
+                    write(s, 0, length);
+                    return;
+                }
+
+                // no break
+            case ALWAYS:
+            default: {
+                write(quote);
+
+                int start = 0;
+                for (int i = 0; i < length; i++) {
+                    char c = s.charAt(i);
+
+                    if (c == '\\' || c == quote) {
+                        write(s, start, i - start);
+                        write(c);
+                        write(c);
+                        start = i + 1;
+                    }
+                }
+
+                write(s, start, length - start);
+                write(quote);
+            }
+        }
+    }
+
+    private static final boolean containsCSVSpecialCharacters(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+                case ',':
+                case ';':
+                case '\t':
+                case '"':
+                case '\n':
+                case '\r':
+                case '\'':
+                case '\\':
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Write a quoted JSON string, like
+     * {@link org.jooq.tools.json.JSONValue#writeJSONString(Object, Writer)}.
+     */
+    final void writeJSON(String s) throws IOException {
+        int length = s.length();
+        int start = 0;
+
+        write('"');
+
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            String escaped;
+
+            switch (c) {
+                case '"':  escaped = "\\\""; break;
+                case '\\': escaped = "\\\\"; break;
+                case '\b': escaped = "\\b"; break;
+                case '\f': escaped = "\\f"; break;
+                case '\n': escaped = "\\n"; break;
+                case '\r': escaped = "\\r"; break;
+                case '\t': escaped = "\\t"; break;
+                case '/':  escaped = "\\/"; break;
+                default:
+
+                    // Reference: http://www.unicode.org/versions/Unicode5.1.0/
+                    if (c <= '\u001F' || c >= '\u007F' && c <= '\u009F' || c >= '\u2000' && c <= '\u20FF') {
+                        write(s, start, i - start);
+                        write('\\');
+                        write('u');
+                        write(HEX[c >> 12 & 0xF]);
+                        write(HEX[c >> 8 & 0xF]);
+                        write(HEX[c >> 4 & 0xF]);
+                        write(HEX[c & 0xF]);
+                        start = i + 1;
+                    }
+
+                    continue;
+            }
+
+            write(s, start, i - start);
+            write(escaped);
+            start = i + 1;
+        }
+
+        write(s, start, length - start);
+        write('"');
+    }
+
+    /**
+     * Write XML content, escaping the same characters as
+     * <code>AbstractResult.escapeXML()</code>.
+     */
+    final void writeXML(String s) throws IOException {
+        int length = s.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            String escaped;
+
+            switch (s.charAt(i)) {
+                case '"':  escaped = "&quot;"; break;
+                case '\'': escaped = "&apos;"; break;
+                case '<':  escaped = "&lt;"; break;
+                case '>':  escaped = "&gt;"; break;
+                case '&':  escaped = "&amp;"; break;
+                default:   continue;
+            }
+
+            write(s, start, i - start);
+            write(escaped);
+            start = i + 1;
+        }
+
+        write(s, start, length - start);
+    }
+}
@@ -59,8 +59,10 @@ import static org.jooq.tools.StringUtils.defaultIfBlank;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,12 +70,15 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Fields;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
 import org.jooq.tools.json.ContainerFactory;
+import org.jooq.tools.json.ContentHandler;
 import org.jooq.tools.json.JSONParser;
 
 /**
@@ -107,6 +112,15 @@ final class JSONReader<R extends Record> {
 
     final Result<R> read(final Reader reader, boolean multiset) {
         try {
+
+            // The MULTISET content's shape is known in advance, so records can
+            // be produced while parsing, without building the document first
+            if (multiset && row != null) {
+                MultisetHandler handler = new MultisetHandler(ctx, row, recordType);
+                new JSONParser().parse(reader, handler);
+                return (Result<R>) handler.result();
+            }
+
             Object root = new JSONParser().parse(reader, new ContainerFactory() {
                 @Override
                 public Map createObjectContainer() {
@@ -278,8 +292,8 @@ final class JSONReader<R extends Record> {
                     record.set(i, Base64.getDecoder().decode(s));
             }
 
-            // [#12155] Recurse for nested data types
-            else if (multiset && field.getDataType().isMultiset())
+            // [#12155] Recurse for nested data types, unless already read
+            else if (multiset && field.getDataType().isMultiset() && !(record.get(i) instanceof Result))
                 record.set(i, read(
                     ctx,
                     (AbstractRow) field.getDataType().getRow(),
@@ -291,5 +305,206 @@ final class JSONReader<R extends Record> {
 
         return record;
     }
-}
 
+    /**
+     * A {@link ContentHandler} that reads MULTISET content of a known shape
+     * into records, while parsing.
+     * <p>
+     * Only the values of the record that is currently being read are kept in
+     * memory, in addition to the records that have been read already. Nested
+     * MULTISET content is read recursively. Other nested JSON content (e.g.
+     * nested ROW values) as well as unexpected content is read into
+     * containers just like with the {@link ContainerFactory} approach.
+     */
+    private static final class MultisetHandler implements ContentHandler {
+
+        private final DSLContext    ctx;
+        private final ResultState   rootState;
+        private final Deque<Object> stack;
+        private Object              root;
+
+        MultisetHandler(DSLContext ctx, AbstractRow<?> row, Class<?> recordType) {
+            this.ctx = ctx;
+            this.rootState = new ResultState(new ResultImpl<>(ctx.configuration(), row), recordType);
+            this.stack = new ArrayDeque<>();
+        }
+
+        final Result<?> result() {
+            if (root instanceof Result<?> r)
+                return r;
+
+            // The root wasn't an array, so read the content as usual
+            else
+                return read(ctx, (AbstractRow) rootState.result.fieldsRow(), (Class) rootState.recordType, true, root);
+        }
+
+        private final void value(Object value) {
+            Object top = stack.peek();
+
+            if (top == null)
+                root = value;
+            else if (top instanceof ResultState s) {
+
+                // [#12930] NULL records are possible when nested ROW is
+                //          returned from an empty scalar subquery.
+                if (value == null)
+                    s.result.add(null);
+                else
+                    throw new DataAccessException("Unexpected MULTISET content: " + value);
+            }
+            else if (top instanceof RecordState s)
+                s.value(value);
+            else if (top instanceof List l)
+                l.add(value);
+            else if (top instanceof MapState s)
+                s.map.put(s.key, value);
+        }
+
+        @Override
+        public final void startJSON() {}
+
+        @Override
+        public final void endJSON() {}
+
+        @Override
+        public final boolean startArray() {
+            Object top = stack.peek();
+
+            if (top == null)
+                stack.push(rootState);
+            else if (top instanceof ResultState s)
+                stack.push(new RecordState(s, false));
+            else if (top instanceof RecordState s && s.field() != null && s.field().getDataType().isMultiset()) {
+                DataType<?> t = s.field().getDataType();
+                stack.push(new ResultState(new ResultImpl<>(ctx.configuration(), (AbstractRow) t.getRow()), t.getRecordType()));
+            }
+            else
+                stack.push(new ArrayList<>());
+
+            return true;
+        }
+
+        @Override
+        public final boolean endArray() {
+            Object top = stack.pop();
+
+            if (top instanceof ResultState s)
+                value(s.result);
+            else if (top instanceof RecordState s)
+                s.parent.result.add(s.record(ctx));
+            else
+                value(top);
+
+            return true;
+        }
+
+        @Override
+        public final boolean startObject() {
+            Object top = stack.peek();
+
+            if (top instanceof ResultState s)
+                stack.push(new RecordState(s, true));
+            else
+                stack.push(new MapState());
+
+            return true;
+        }
+
+        @Override
+        public final boolean endObject() {
+            Object top = stack.pop();
+
+            if (top instanceof RecordState s)
+                s.parent.result.add(s.record(ctx));
+            else
+                value(((MapState) top).map);
+
+            return true;
+        }
+
+        @Override
+        public final boolean startObjectEntry(String key) {
+            Object top = stack.peek();
+
+            if (top instanceof RecordState s)
+
+                // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
+                s.index = parseInt(key.substring(1));
+            else
+                ((MapState) top).key = key;
+
+            return true;
+        }
+
+        @Override
+        public final boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public final boolean primitive(Object value) {
+            value(value);
+            return true;
+        }
+    }
+
+    private static final class ResultState {
+        final Result<Record> result;
+        final Class<?>       recordType;
+
+        ResultState(Result<Record> result, Class<?> recordType) {
+            this.result = result;
+            this.recordType = recordType;
+        }
+    }
+
+    private static final class RecordState {
+        final ResultState  parent;
+        final boolean      object;
+        final List<Object> values;
+        int                index;
+
+        RecordState(ResultState parent, boolean object) {
+            this.parent = parent;
+            this.object = object;
+            this.values = new ArrayList<>(parent.result.fieldsRow().size());
+        }
+
+        final Field<?> field() {
+            int i = object ? index : values.size();
+            return i < parent.result.fieldsRow().size() ? parent.result.field(i) : null;
+        }
+
+        final void value(Object value) {
+            if (object) {
+                while (values.size() <= index)
+                    values.add(null);
+
+                values.set(index, value);
+            }
+            else
+                values.add(value);
+        }
+
+        final Record record(DSLContext ctx) {
+            AbstractRow<Record> row = (AbstractRow<Record>) parent.result.fieldsRow();
+            patchRecord(ctx, true, row, values);
+
+            // This is the same as Record.from(values), followed by
+            // Record.changed(false), but without any intermediary records
+            return newRecord(true, (Class<Record>) parent.recordType, row, ctx.configuration()).operate(r -> {
+                AbstractRecord a = (AbstractRecord) r;
+
+                for (int i = 0; i < row.size() && i < values.size(); i++)
+                    a.setValueAndOriginal(i, row.field(i).getDataType().convert(values.get(i)));
+
+                return r;
+            });
+        }
+    }
+
+    private static final class MapState {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        String                    key;
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.csv.CSVParser;
+import org.jooq.tools.csv.CSVReader;
+
+/**
+ * A CSV reader for the {@link LoaderImpl}, which tokenises large
+ * <code>char[]</code> buffers, rather than individual lines.
+ * <p>
+ * Lines are located in the buffer along with the positions of their
+ * separators, and fields are produced directly from those slices. Fields
+ * whose target {@link Field} is known and of a supported numeric or date time
+ * type are parsed without creating an intermediate {@link String}, if they're
+ * in the canonical format. Any other content (including non-canonical numbers
+ * and dates, or the loader's <code>nullString</code>) is produced as a
+ * {@link String}, and converted by the loader, as before.
+ * <p>
+ * Lines that contain quote or escape characters are delegated to the
+ * {@link CSVParser}, so the results are the same as with the
+ * {@link CSVReader}.
+ *
+ * @author Lukas Eder
+ */
+final class LoaderCSVReader implements Iterator<Object[]>, AutoCloseable {
+
+    private static final int            BUFFER_SIZE   = 1 << 16;
+
+    private static final int            STRING        = 0;
+    private static final int            BYTE          = 1;
+    private static final int            SHORT         = 2;
+    private static final int            INTEGER       = 3;
+    private static final int            LONG          = 4;
+    private static final int            BIGDECIMAL    = 5;
+    private static final int            LOCALDATE     = 6;
+    private static final int            DATE          = 7;
+    private static final int            LOCALDATETIME = 8;
+    private static final int            TIMESTAMP     = 9;
+
+    private final Reader                reader;
+    private final char                  separator;
+    private final char                  quote;
+    private final char                  escape;
+    private final char[]                nullString;
+    private final Supplier<Field<?>[]>  targets;
+    private final CSVParser             parser;
+    private Boolean                     parserInField;
+    private int                         skipLines;
+
+    // The buffer and the current line
+    private char[]                      buffer;
+    private int                         position;
+    private int                         limit;
+    private boolean                     eof;
+    private boolean                     skipLF;
+    private int                         lineStart;
+    private int                         lineEnd;
+    private boolean                     lineComplex;
+    private int[]                       separators;
+    private int                         separatorCount;
+
+    private int[]                       types;
+    private Object[]                    next;
+    private boolean                     done;
+
+    /**
+     * Create a reader.
+     *
+     * @param targets The target fields of the loader, by input column index,
+     *            or <code>null</code> if fields should not be converted.
+     *            Conversion starts once the supplier returns a non-null value.
+     */
+    LoaderCSVReader(
+        Reader reader,
+        char separator,
+        char quote,
+        int skipLines,
+        String nullString,
+        Supplier<Field<?>[]> targets
+    ) {
+        this.reader = reader;
+        this.separator = separator;
+        this.quote = quote;
+        this.escape = CSVParser.DEFAULT_ESCAPE_CHARACTER;
+        this.skipLines = skipLines;
+        this.nullString = nullString == null ? null : nullString.toCharArray();
+        this.targets = targets;
+        this.parser = new CSVParser(separator, quote, escape);
+        this.buffer = new char[BUFFER_SIZE];
+        this.separators = new int[16];
+    }
+
+    /**
+     * Read the next record without any conversion, e.g. a header record, or
+     * <code>null</code> if there are no more records.
+     */
+    final String[] header() {
+        Object[] record = read(false);
+        return record == null ? null : Arrays.copyOf(record, record.length, String[].class);
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !done)
+            if ((next = read(true)) == null)
+                done = true;
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    private final Object[] read(boolean convert) {
+        try {
+            for (; skipLines > 0; skipLines--)
+                if (!line())
+                    return null;
+
+            if (!line())
+                return null;
+            else if (lineComplex)
+                return parse();
+
+            // The CSVParser keeps track of whether the last line ended within
+            // a field. Empty lines don't change that state.
+            if (lineEnd > lineStart)
+                parserInField = buffer[lineEnd - 1] != separator;
+
+            if (convert && types == null && targets != null)
+                types(targets.get());
+
+            int fieldCount = separatorCount + 1;
+            Object[] result = new Object[fieldCount];
+
+            for (int i = 0, from = lineStart; i < fieldCount; i++) {
+                int to = i < separatorCount ? lineStart + separators[i] : lineEnd;
+                result[i] = value(convert && types != null && i < types.length ? types[i] : STRING, from, to);
+                from = to + 1;
+            }
+
+            return result;
+        }
+        catch (IOException e) {
+            throw new DataAccessException("Could not read the CSV input", e);
+        }
+    }
+
+    /**
+     * Parse the current line (and any subsequent lines of a multi line quoted
+     * field) with the {@link CSVParser}, just like
+     * {@link CSVReader#readNext()}.
+     */
+    private final String[] parse() throws IOException {
+        String[] result = null;
+
+        // Lines that bypassed the parser must leave it in the same state as if
+        // they had been parsed, as that state affects quotes at the beginning
+        // of the next line
+        if (parserInField != null) {
+            parser.parseLineMulti(parserInField ? String.valueOf(plainCharacter()) : String.valueOf(separator));
+            parserInField = null;
+        }
+
+        do {
+            String[] r = parser.parseLineMulti(new String(buffer, lineStart, lineEnd - lineStart));
+
+            if (r.length > 0) {
+                if (result == null)
+                    result = r;
+                else {
+                    String[] t = new String[result.length + r.length];
+                    System.arraycopy(result, 0, t, 0, result.length);
+                    System.arraycopy(r, 0, t, result.length, r.length);
+                    result = t;
+                }
+            }
+        }
+        while (parser.isPending() && line());
+
+        return result;
+    }
+
+    private final char plainCharacter() {
+        char c = 'a';
+
+        while (c == separator || c == quote || c == escape)
+            c++;
+
+        return c;
+    }
+
+    /**
+     * Locate the next line in the buffer, with the same line terminators as
+     * {@link java.io.BufferedReader#readLine()}, returning <code>false</code>
+     * at the end of the input.
+     */
+    private final boolean line() throws IOException {
+        if (skipLF) {
+            lineStart = position;
+
+            if (position == limit && !eof)
+                fill();
+            if (position < limit && buffer[position] == '\n')
+                position++;
+
+            skipLF = false;
+        }
+
+        int i = position;
+        lineStart = position;
+        lineComplex = false;
+        separatorCount = 0;
+
+        for (;;) {
+            if (i == limit) {
+                int offset = lineStart;
+                boolean filled = !eof && fill();
+                i -= offset - lineStart;
+
+                if (!filled) {
+                    if (i == lineStart)
+                        return false;
+
+                    lineEnd = position = i;
+                    return true;
+                }
+            }
+
+            char c = buffer[i];
+
+            if (c == '\n' || c == '\r') {
+                lineEnd = i;
+                position = i + 1;
+                skipLF = c == '\r';
+                return true;
+            }
+            else if (c == separator) {
+                if (separatorCount == separators.length)
+                    separators = Arrays.copyOf(separators, separatorCount * 2);
+
+                separators[separatorCount++] = i - lineStart;
+            }
+            else if (c == quote || c == escape)
+                lineComplex = true;
+
+            i++;
+        }
+    }
+
+    /**
+     * Read more content into the buffer, moving the current line to the start
+     * of the buffer, and growing the buffer if the current line doesn't fit.
+     */
+    private final boolean fill() throws IOException {
+        int length = limit - lineStart;
+
+        if (lineStart == 0 && limit == buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        else if (length > 0)
+            System.arraycopy(buffer, lineStart, buffer, 0, length);
+
+        position -= lineStart;
+        lineStart = 0;
+        limit = length;
+
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+
+        limit += read;
+        return true;
+    }
+
+    private final void types(Field<?>[] fields) {
+        if (fields == null)
+            return;
+
+        types = new int[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            Class<?> type = fields[i] == null ? null : fields[i].getType();
+
+            types[i] = type == Byte.class
+                     ? BYTE
+                     : type == Short.class
+                     ? SHORT
+                     : type == Integer.class
+                     ? INTEGER
+                     : type == Long.class
+                     ? LONG
+                     : type == BigDecimal.class
+                     ? BIGDECIMAL
+                     : type == LocalDate.class
+                     ? LOCALDATE
+                     : type == Date.class
+                     ? DATE
+                     : type == LocalDateTime.class
+                     ? LOCALDATETIME
+                     : type == Timestamp.class
+                     ? TIMESTAMP
+                     : STRING;
+        }
+    }
+
+    private final Object value(int type, int from, int to) {
+        if (type != STRING && !isNullString(from, to)) {
+            try {
+                switch (type) {
+                    case BYTE:
+                    case SHORT:
+                    case INTEGER: {
+                        long l = parseLong(from, to);
+
+                        // Out of range values are converted by the loader, as before
+                        if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE)
+                            return type == BYTE
+                                 ? (Object) Byte.valueOf((byte) l)
+                                 : type == SHORT
+                                 ? (Object) Short.valueOf((short) l)
+                                 : (Object) Integer.valueOf((int) l);
+
+                        break;
+                    }
+
+                    case LONG:
+                        return parseLong(from, to);
+
+                    case BIGDECIMAL:
+                        return new BigDecimal(buffer, from, to - from);
+
+                    case LOCALDATE: {
+                        LocalDate d = parseDate(from, to);
+
+                        // Strings are converted to LocalDate via java.sql.Date,
+                        // which uses the Julian calendar before the Gregorian
+                        // cutover
+                        if (d.getYear() > 1582)
+                            return d;
+
+                        break;
+                    }
+
+                    case DATE:
+                        return Date.valueOf(parseDate(from, to));
+
+                    case LOCALDATETIME:
+                        return parseDateTime(from, to);
+
+                    case TIMESTAMP:
+                        return Timestamp.valueOf(parseDateTime(from, to));
+                }
+            }
+
+            // Non-canonical content is converted by the loader, as before
+            catch (NumberFormatException | DateTimeException ignore) {}
+        }
+
+        return new String(buffer, from, to - from);
+    }
+
+    private final boolean isNullString(int from, int to) {
+        return nullString != null
+            && nullString.length == to - from
+            && Arrays.equals(buffer, from, to, nullString, 0, nullString.length);
+    }
+
+    /**
+     * Parse a canonical integer of up to 18 digits, which cannot overflow.
+     */
+    private final long parseLong(int from, int to) {
+        boolean negative = from < to && buffer[from] == '-';
+        int i = negative ? from + 1 : from;
+
+        if (i == to || to - i > 18)
+            throw new NumberFormatException();
+
+        long result = 0;
+        for (; i < to; i++)
+            result = result * 10 + digit(i);
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parse a canonical <code>yyyy-MM-dd</code> date.
+     */
+    private final LocalDate parseDate(int from, int to) {
+        if (to - from != 10)
+            throw new NumberFormatException();
+
+        return date(from);
+    }
+
+    /**
+     * Parse a canonical <code>yyyy-MM-dd HH:mm:ss[.fffffffff]</code> timestamp,
+     * where the <code>' '</code> may also be a <code>'T'</code>.
+     */
+    private final LocalDateTime parseDateTime(int from, int to) {
+        int length = to - from;
+
+        if (length < 19
+            || length == 20
+            || length > 29
+            || buffer[from + 10] != ' ' && buffer[from + 10] != 'T'
+            || buffer[from + 13] != ':'
+            || buffer[from + 16] != ':'
+            || length > 19 && buffer[from + 19] != '.')
+            throw new NumberFormatException();
+
+        int nanos = 0;
+        for (int i = 20; i < 29; i++)
+            nanos = nanos * 10 + (i < length ? digit(from + i) : 0);
+
+        return date(from).atTime(
+            digit(from + 11) * 10 + digit(from + 12),
+            digit(from + 14) * 10 + digit(from + 15),
+            digit(from + 17) * 10 + digit(from + 18),
+            nanos
+        );
+    }
+
+    private final LocalDate date(int from) {
+        if (buffer[from + 4] != '-' || buffer[from + 7] != '-')
+            throw new NumberFormatException();
+
+        return LocalDate.of(
+            digit(from) * 1000 + digit(from + 1) * 100 + digit(from + 2) * 10 + digit(from + 3),
+            digit(from + 5) * 10 + digit(from + 6),
+            digit(from + 8) * 10 + digit(from + 9)
+        );
+    }
+
+    private final int digit(int i) {
+        int d = buffer[i] - '0';
+
+        if (d < 0 || d > 9)
+            throw new NumberFormatException();
+
+        return d;
+    }
+}
@@ -38,10 +38,14 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
 import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
@@ -60,15 +64,27 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -86,18 +102,20 @@ import org.jooq.LoaderJSONStep;
 import org.jooq.LoaderOptionsStep;
 import org.jooq.LoaderRowListener;
 import org.jooq.LoaderRowsStep;
+import org.jooq.LoaderXMLOptionsStep;
 import org.jooq.LoaderXMLStep;
+import org.jooq.Param;
+import org.jooq.Query;
 import org.jooq.Record;
-import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.Source;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.LoaderConfigurationException;
+import org.jooq.impl.DefaultRenderContext.Rendered;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
 
 import org.xml.sax.InputSource;
@@ -112,6 +130,7 @@ final class LoaderImpl<R extends Record> implements
     LoaderOptionsStep<R>,
     LoaderRowsStep<R>,
     LoaderXMLStep<R>,
+    LoaderXMLOptionsStep<R>,
     LoaderCSVStep<R>,
     LoaderCSVOptionsStep<R>,
     LoaderJSONStep<R>,
@@ -147,6 +166,9 @@ final class LoaderImpl<R extends Record> implements
     private static final int             CONTENT_JSON                     = 2;
     private static final int             CONTENT_ARRAYS                   = 3;
 
+    private static final int             CHUNK_SIZE                       = 256;
+    private static final Object[][]      END_OF_ROWS                      = {};
+
     // Configuration data
     // ------------------
     private final Configuration          configuration;
@@ -159,6 +181,8 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private int                          parallelism                      = 1;
+    private ConnectionProvider           workerConnectionProvider;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -179,19 +203,16 @@ final class LoaderImpl<R extends Record> implements
     // -----------
     private LoaderRowListener            onRowStart;
     private LoaderRowListener            onRowEnd;
-    private final LoaderContext          rowCtx                           = new DefaultLoaderContext();
-    private int                          ignored;
-    private int                          processed;
-    private int                          stored;
-    private int                          executed;
-    private int                          unexecuted;
-    private int                          uncommitted;
+    private final DefaultLoaderContext   rowCtx                           = new DefaultLoaderContext(null);
+    private final List<Worker>           workers                          = new ArrayList<>();
+    private volatile boolean             aborted;
     private final List<LoaderError>      errors;
 
     LoaderImpl(Configuration configuration, Table<R> table) {
         this.configuration = configuration;
         this.table = table;
-        this.errors = new ArrayList<>();
+        this.workerConnectionProvider = configuration.connectionProvider();
+        this.errors = Collections.synchronizedList(new ArrayList<>());
     }
 
     // -------------------------------------------------------------------------
@@ -298,6 +319,23 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        return parallelism(number, configuration.connectionProvider());
+    }
+
+    @Override
+    public final LoaderImpl<R> parallelism(int number, ConnectionProvider provider) {
+
+        // [#8] Workers must not share a single JDBC connection
+        if (number > 1 && provider instanceof DefaultConnectionProvider)
+            throw new IllegalArgumentException("Parallel loading requires a ConnectionProvider that can provide several connections, e.g. a DataSourceConnectionProvider, not a single connection's DefaultConnectionProvider");
+
+        parallelism = number;
+        workerConnectionProvider = provider;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -457,15 +495,21 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderImpl<R> loadXML(InputSource s) {
-        content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        if (s.getCharacterStream() != null)
+            return loadXML(Source.of(s.getCharacterStream()));
+        else if (s.getByteStream() != null && s.getEncoding() != null)
+            return loadXML(Source.of(s.getByteStream(), s.getEncoding()));
+        else if (s.getByteStream() != null)
+            return loadXML(Source.of(s.getByteStream()));
+        else
+            throw new UnsupportedOperationException("Only InputSources with a character or byte stream are supported");
     }
 
     @Override
     public final LoaderImpl<R> loadXML(Source s) {
         content = CONTENT_XML;
         input = s;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        return this;
     }
 
     @Override
@@ -665,7 +709,7 @@ final class LoaderImpl<R extends Record> implements
         if (content == CONTENT_CSV)
             executeCSV();
         else if (content == CONTENT_XML)
-            throw new UnsupportedOperationException();
+            executeXML();
         else if (content == CONTENT_JSON)
             executeJSON();
         else if (content == CONTENT_ARRAYS)
@@ -681,41 +725,38 @@ final class LoaderImpl<R extends Record> implements
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
     }
 
-    private final void executeJSON() {
-        Reader reader = null;
-
-        try {
-            reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null, false).read(reader);
-            source = r.fields();
-
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+    private final void executeJSON() throws IOException {
+        try (LoaderJSONReader reader = new LoaderJSONReader(input.reader())) {
+            source = reader.fields();
+            executeSQL(reader);
         }
-        finally {
-            safeClose(reader);
+    }
+
+    private final void executeXML() throws IOException {
+        try (LoaderXMLReader reader = new LoaderXMLReader(input.reader())) {
+            source = reader.fields();
+            executeSQL(reader);
         }
     }
 
-    private final void executeCSV() {
-        CSVReader reader = null;
+    private final void executeCSV() throws IOException {
 
-        try {
-            if (ignoreRows == 1) {
-                reader = new CSVReader(input.reader(), separator, quote, 0);
-                source = Tools.fieldsByName(reader.next());
-            }
-            else {
-                reader = new CSVReader(input.reader(), separator, quote, ignoreRows);
-            }
+        // Values can only be converted while reading if the loader is the only
+        // consumer of the rows, and if fields are resolved in this thread.
+        // Row listeners expect the rows as read from the CSV content.
+        try (LoaderCSVReader reader = new LoaderCSVReader(
+            input.reader(),
+            separator,
+            quote,
+            ignoreRows == 1 ? 0 : ignoreRows,
+            nullString,
+            parallelism > 1 || onRowStart != null || onRowEnd != null ? null : () -> fields
+        )) {
+            if (ignoreRows == 1)
+                source = Tools.fieldsByName(reader.header());
 
             executeSQL(reader);
         }
-        finally {
-            safeClose(reader);
-        }
     }
 
     private final void executeRows() {
@@ -760,233 +801,625 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
-        configuration.dsl().connection(connection -> {
-            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+        if (parallelism > 1)
+            executeSQLParallel(iterator);
+        else
+            executeSQL(configuration, new Worker(rowCtx), w -> {
+                Object[] row;
+                int index = 0;
 
-            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
+                while (iterator.hasNext() && ((row = iterator.next()) != null))
+                    if (!w.load(row, index++))
+                        return false;
+
+                return true;
+            });
+    }
+
+    /**
+     * Load rows in several workers, each holding its own connection.
+     * <p>
+     * Rows are read by the calling thread and passed on to the workers in
+     * chunks, via a bounded queue. The workers run on the
+     * {@link Configuration#executorProvider()}, which may run fewer of them
+     * at the same time. Workers therefore only wait for those other workers
+     * that have started loading before they commit or roll back in
+     * {@link #commitAll()} mode. Workers that start after all others have
+     * finished can only find the end of the rows.
+     */
+    private final void executeSQLParallel(final Iterator<? extends Object[]> iterator) {
+        BlockingQueue<Object[][]> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        Phaser loaded = new Phaser(1);
+        CountDownLatch done = new CountDownLatch(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Configuration workerConfiguration = configuration.derive(workerConnectionProvider);
+        Executor executor = configuration.executorProvider().provide();
+
+        for (int i = 0; i < parallelism; i++) {
+            Worker worker = new Worker(null);
+            worker.loaded = loaded;
+
+            Runnable task = () -> {
+                try {
+                    loaded.register();
+                    executeSQL(workerConfiguration, worker, w -> {
+                        Object[][] chunk;
+
+                        while ((chunk = take(queue)) != END_OF_ROWS) {
+
+                            // Keep draining the queue after an abort, to unblock the reader
+                            if (aborted)
+                                continue;
+
+                            int offset = (int) chunk[0][0];
+                            for (int j = 1; j < chunk.length; j++) {
+                                if (!w.load(chunk[j], offset + j - 1)) {
+                                    aborted = true;
+                                    break;
+                                }
+                            }
+                        }
+
+                        return !aborted;
+                    });
+                }
+                catch (Throwable t) {
+                    aborted = true;
+                    failure.compareAndSet(null, t);
+
+                    if (worker.loaded != null)
+                        loaded.arriveAndDeregister();
+                }
+                finally {
+                    done.countDown();
+                }
+            };
+
+            try {
+                executor.execute(task);
+            }
+            catch (RuntimeException e) {
+                aborted = true;
+                failure.compareAndSet(null, e);
+                done.countDown();
             }
+        }
 
-            else {
-                try (CachedPSListener cache = new CachedPSListener()) {
-                    executeSQL(iterator, c
-                        .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
-                        .dsl()
-                    );
+        try {
+            Object[] row;
+            int index = 0;
+            Object[][] chunk = new Object[CHUNK_SIZE + 1][];
+            int size = 0;
+
+            while (!aborted && iterator.hasNext() && ((row = iterator.next()) != null)) {
+
+                // [#5145][#8755] Lazy initialisation of fields from the first row,
+                //                prior to any worker accessing them
+                if (fields == null)
+                    fields0(row.getClass() != Object[].class ? Arrays.copyOf(row, row.length, Object[].class) : row);
+
+                if (size == 0)
+                    chunk[0] = new Object[] { index };
+
+                chunk[++size] = row;
+                index++;
+
+                if (size == CHUNK_SIZE) {
+                    if (!put(queue, chunk, () -> aborted))
+                        break;
+
+                    chunk = new Object[CHUNK_SIZE + 1][];
+                    size = 0;
                 }
             }
-        });
-    }
 
-    private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
-        Object[] row = null;
-        BatchBindStep bind = null;
-        InsertQuery<R> insert = null;
-        boolean newRecord = false;
+            if (size > 0 && !aborted)
+                put(queue, Arrays.copyOf(chunk, size + 1), () -> aborted);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aborted = true;
+            failure.compareAndSet(null, e);
+        }
+        catch (RuntimeException e) {
+            aborted = true;
+            failure.compareAndSet(null, e);
+        }
+        finally {
+
+            // Pending rows are no longer needed after an abort. Workers may all
+            // have died, in case of which nobody is left to take the markers
+            if (aborted)
+                queue.clear();
 
-        execution: {
-            rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+            for (int i = 0; i < parallelism; i++) {
                 try {
+                    if (!put(queue, END_OF_ROWS, () -> done.getCount() == 0))
+                        break;
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
 
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = Base64.getDecoder().decode((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+            // All rows have been handed out, workers no longer need to wait for the reader
+            loaded.arriveAndDeregister();
 
-                    // TODO: In batch mode, we can probably optimise this by not creating
-                    // new statements every time, just to convert bind values to their
-                    // appropriate target types. But beware of SQL dialects that tend to
-                    // need very explicit casting of bind values (e.g. Firebird)
-                    processed++;
-                    unexecuted++;
-                    uncommitted++;
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
 
-                    if (insert == null)
-                        insert = ctx.insertQuery(table);
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
 
-                    if (newRecord) {
-                        newRecord = false;
-                        insert.newRecord();
-                    }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException e)
+            throw e;
+        else if (t instanceof Error e)
+            throw e;
+        else if (t != null)
+            throw new DataAccessException("Error while loading data", t);
+    }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
+    /**
+     * Put a chunk in the queue, unless <code>cancel</code> becomes
+     * <code>true</code> while waiting for space.
+     */
+    private static final boolean put(BlockingQueue<Object[][]> queue, Object[][] chunk, BooleanSupplier cancel) throws InterruptedException {
+        while (!queue.offer(chunk, 100, MILLISECONDS))
+            if (cancel.getAsBoolean())
+                return false;
 
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
+        return true;
+    }
 
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
-                    }
+    private static final Object[][] take(BlockingQueue<Object[][]> queue) {
+        try {
+            return queue.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for rows to load", e);
+        }
+    }
 
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
-                        insert.onDuplicateKeyIgnore(true);
-                    }
+    private final void executeSQL(Configuration configuration, Worker worker, Predicate<Worker> rows) {
+        synchronized (workers) {
+            workers.add(worker);
+        }
 
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+        configuration.dsl().connection(connection -> {
+            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
-                    try {
-                        if (bulk != BULK_NONE) {
-                            if (bulk == BULK_ALL || processed % bulkAfter != 0) {
-                                newRecord = true;
-                                continue rows;
-                            }
-                        }
+            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+                worker.execute(c.dsl(), rows);
+            }
 
-                        if (batch != BATCH_NONE) {
-                            if (bind == null)
-                                bind = ctx.batch(insert);
+            else {
+                try (CachedPSListener cache = new CachedPSListener()) {
+                    worker.execute(c
+                        .derive(combine(ExecuteListeners.transientProviders(cache), c.executeListenerProviders()))
+                        .dsl(),
+                        rows
+                    );
+                }
+            }
+        });
+    }
 
-                            bind.bind(insert.getBindValues().toArray());
-                            insert = null;
+    /**
+     * The state of loading rows on a single connection.
+     */
+    private final class Worker {
+        final DefaultLoaderContext       rowCtx;
+        DSLContext                       ctx;
+        Phaser                           loaded;
+        int                              index;
+        int                              ignored;
+        int                              processed;
+        int                              stored;
+        int                              executed;
+        int                              unexecuted;
+        int                              uncommitted;
+        Object[]                         row;
+        BatchBindStep                    bind;
+        BulkTemplate                     template;
+        final List<Object[]>             pending   = new ArrayList<>();
+        final Map<Integer, BulkTemplate> templates = new HashMap<>();
+
+        Worker(DefaultLoaderContext rowCtx) {
+            this.rowCtx = rowCtx != null ? rowCtx : new DefaultLoaderContext(this);
+        }
 
-                            if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
-                                continue rows;
-                        }
+        final void execute(DSLContext c, Predicate<Worker> rows) {
+            ctx = c;
 
-                        int[] rowcounts = { 0 };
-                        int totalRowCounts = 0;
+            try {
+                execute(rows);
+            }
+            finally {
+                for (BulkTemplate t : templates.values())
+                    t.close();
+            }
+        }
+
+        private final void execute(Predicate<Worker> rows) {
+            execution: {
+                if (!rows.test(this))
+                    break execution;
 
+                // Execute remaining batch
+                if (unexecuted != 0) {
+                    try {
                         if (bind != null)
-                            rowcounts = bind.execute();
-                        else if (insert != null)
-                            rowcounts = new int[] { insert.execute() };
-
-                        // [#10358] The MySQL dialect category doesn't return rowcounts
-                        //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
-                        //          1 = INSERT, 2 = UPDATE, instead
-                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
-                            totalRowCounts = unexecuted;
-                        else
-                            for (int rowCount : rowcounts)
-                                totalRowCounts += rowCount;
-
-                        stored += totalRowCounts;
-                        ignored += unexecuted - totalRowCounts;
+                            bind.execute();
+                        if (!pending.isEmpty())
+                            template().execute(pending);
+
+                        stored += unexecuted;
                         executed++;
 
                         unexecuted = 0;
-                        bind = null;
-                        insert = null;
-
-                        if (commit == COMMIT_AFTER)
-                            if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
-                                commit();
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, row, index, failed()));
                         ignored += unexecuted;
                         unexecuted = 0;
-
-                        if (onError == ON_ERROR_ABORT)
-                            break execution;
                     }
+                }
+
+                // Commit remaining elements in COMMIT_AFTER mode
+                if (commit == COMMIT_AFTER && uncommitted != 0)
+                    commit();
+
+                // execution:
+            }
 
+            // [#8] In parallel mode, all workers must be done before the
+            //      outcome of COMMIT_ALL is known
+            if (loaded != null) {
+                Phaser l = loaded;
+                loaded = null;
+
+                try {
+                    l.awaitAdvanceInterruptibly(l.arriveAndDeregister());
                 }
-                finally {
-                    if (onRowEnd != null)
-                        onRowEnd.row(rowCtx);
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while waiting for other loader workers", e);
+                }
+            }
+
+            // Rollback on errors in COMMIT_ALL mode, including errors of other
+            // workers that died without reporting a LoaderError
+            try {
+                if (commit == COMMIT_ALL) {
+                    if (!errors.isEmpty() || aborted) {
+                        stored = 0;
+                        rollback();
+                    }
+                    else
+                        commit();
                 }
-                // rows:
             }
+            catch (DataAccessException e) {
+                errors.add(new LoaderErrorImpl(e, null, index, null));
+            }
+        }
+
+        /**
+         * Load a single row, returning <code>false</code> if loading should
+         * be aborted.
+         */
+        final boolean load(Object[] r, int i) {
+            row = r;
+            index = i;
+
+            try {
+
+                // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+                if (row.getClass() != Object[].class)
+                    row = Arrays.copyOf(row, row.length, Object[].class);
+
+                // [#5145][#8755] Lazy initialisation of fields from the first row
+                // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+                if (fields == null)
+                    fields0(row);
+
+                // [#1627] [#5858] Handle NULL values and base64 encodings
+                // [#2741]         TODO: This logic will be externalised in new SPI
+                // [#8829]         JSON binary data has already been decoded at this point
+                for (int j = 0; j < row.length; j++)
+                    if (StringUtils.equals(nullString, row[j]))
+                        row[j] = null;
+                    else if (j < fields.length && fields[j] != null)
+                        if (fields[j].getType() == byte[].class && row[j] instanceof String)
+                            row[j] = Base64.getDecoder().decode((String) row[j]);
+
+                // [#10583] Pad row to the fields length
+                if (row.length < fields.length)
+                    row = Arrays.copyOf(row, fields.length);
+
+                rowCtx.row(row);
+                if (onRowStart != null) {
+                    onRowStart.row(rowCtx);
+                    row = rowCtx.row();
+                }
+
+                processed++;
+                unexecuted++;
+                uncommitted++;
+
+                // Only keep the converted values of a row until its bulk
+                // statement is executed or bound to the batch
+                Object[] values = new Object[fields.length];
+                for (int j = 0; j < fields.length; j++)
+                    if (fields[j] != null)
+                        values[j] = fields[j].getDataType().convert(row[j]);
+
+                pending.add(values);
 
-            // Execute remaining batch
-            if (unexecuted != 0) {
                 try {
-                    if (bind != null)
-                        bind.execute();
-                    if (insert != null)
-                        insert.execute();
+                    if (bulk != BULK_NONE) {
+                        if (bulk == BULK_ALL || processed % bulkAfter != 0)
+                            return true;
+                    }
+
+                    if (batch != BATCH_NONE) {
+                        BulkTemplate t = template();
 
-                    stored += unexecuted;
+                        if (bind == null)
+                            bind = ctx.batch(t.query);
+
+                        bind.bind(t.bindValues(pending));
+                        pending.clear();
+
+                        if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
+                            return true;
+                    }
+
+                    int[] rowcounts = { 0 };
+                    int totalRowCounts = 0;
+
+                    if (bind != null)
+                        rowcounts = bind.execute();
+                    else if (!pending.isEmpty())
+                        rowcounts = new int[] { template().execute(pending) };
+
+                    // [#10358] The MySQL dialect category doesn't return rowcounts
+                    //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+                    //          1 = INSERT, 2 = UPDATE, instead
+                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+                        totalRowCounts = unexecuted;
+                    else
+                        for (int rowCount : rowcounts)
+                            totalRowCounts += rowCount;
+
+                    stored += totalRowCounts;
+                    ignored += unexecuted - totalRowCounts;
                     executed++;
 
                     unexecuted = 0;
+                    bind = null;
+                    pending.clear();
+
+                    if (commit == COMMIT_AFTER)
+                        if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
+                            commit();
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                    errors.add(new LoaderErrorImpl(e, row, index, failed()));
                     ignored += unexecuted;
                     unexecuted = 0;
+                    bind = null;
+                    pending.clear();
+
+                    if (onError == ON_ERROR_ABORT)
+                        return false;
                 }
-            }
 
-            // Commit remaining elements in COMMIT_AFTER mode
-            if (commit == COMMIT_AFTER && uncommitted != 0)
-                commit();
+                return true;
+            }
+            finally {
+                if (onRowEnd != null)
+                    onRowEnd.row(rowCtx);
+            }
+        }
 
-            if (onError == ON_ERROR_ABORT)
-                break execution;
+        /**
+         * The template for the bulk size of the pending rows.
+         */
+        private final BulkTemplate template() {
+            int size = pending.size();
 
-            // execution:
-        }
+            if (template == null || template.rows != size) {
+                template = templates.get(size);
 
-        // Rollback on errors in COMMIT_ALL mode
-        try {
-            if (commit == COMMIT_ALL) {
-                if (!errors.isEmpty()) {
-                    stored = 0;
-                    rollback();
-                }
-                else
-                    commit();
+                if (template == null)
+                    templates.put(size, template = new BulkTemplate(ctx, pending));
             }
+
+            return template;
         }
-        catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+
+        /**
+         * A self-contained copy of the statement that failed, as the templates
+         * are reused for subsequent rows.
+         */
+        private final Query failed() {
+            if (bind != null || pending.isEmpty())
+                return null;
+
+            BulkTemplate t = template();
+            t.bind(pending);
+            return ctx.query(ctx.renderInlined(t.query));
         }
-    }
 
-    private final void commit() {
-        configuration.dsl().connection(Connection::commit);
-        uncommitted = 0;
-    }
+        private final void commit() {
+            ctx.connection(Connection::commit);
+            uncommitted = 0;
+        }
 
-    private final void rollback() {
-        configuration.dsl().connection(Connection::rollback);
+        private final void rollback() {
+            ctx.connection(Connection::rollback);
+        }
     }
 
     /**
-     * Type-safety...
+     * A multi-row <code>INSERT</code> statement for a given number of rows,
+     * which is built and rendered only once, and then executed again with the
+     * bind values of subsequent rows of the same bulk size.
      */
-    private final <T> void addValue0(InsertQuery<R> insert, Field<T> field, Object row) {
-        insert.addValue(field, field.getDataType().convert(row));
-    }
+    private final class BulkTemplate {
+        final int                 rows;
+        final InsertQuery<R>      query;
+        final AbstractParamX<?>[] params;
+
+        /**
+         * The index of the row value bound to each of {@link #params}, as
+         * <code>row * fields.length + field</code>, or <code>-1</code> for
+         * parameters not originating from the loaded rows.
+         */
+        final int[]               mapping;
+        boolean                   executed;
+
+        BulkTemplate(DSLContext ctx, List<Object[]> values) {
+            Map<Param<?>, Integer> indexes = new IdentityHashMap<>();
+
+            rows = values.size();
+            query = ctx.insertQuery(table);
+
+            for (int i = 0; i < rows; i++) {
+                if (i > 0)
+                    query.newRecord();
+
+                for (int j = 0; j < fields.length; j++)
+                    if (fields[j] != null)
+                        addValue0(fields[j], values.get(i)[j], i * fields.length + j, indexes);
+            }
 
-    /**
-     * Type-safety...
-     */
-    private final <T> void addValueForUpdate0(InsertQuery<R> insert, Field<T> field, Object row) {
-        insert.addValueForUpdate(field, field.getDataType().convert(row));
+            // TODO: This is only supported by some dialects. Let other
+            // dialects execute a SELECT and then either an INSERT or UPDATE
+            if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+                query.onDuplicateKeyUpdate(true);
+
+                // The last row's values win, as if the rows had been added one by one
+                for (int j = 0; j < fields.length; j++)
+                    if (fields[j] != null && !primaryKey.get(j))
+                        addValueForUpdate0(fields[j], values.get(rows - 1)[j], (rows - 1) * fields.length + j, indexes);
+            }
+
+            // [#7253]  Use native onDuplicateKeyIgnore() support
+            else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+                query.onDuplicateKeyIgnore(true);
+            }
+
+            // Don't do anything. Let the execution fail
+            else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+
+            ParamCollector collector = new ParamCollector(ctx.configuration(), false);
+            collector.visit(query);
+
+            params = new AbstractParamX[collector.resultList.size()];
+            mapping = new int[params.length];
+
+            for (int i = 0; i < params.length; i++) {
+                params[i] = (AbstractParamX<?>) collector.resultList.get(i).getValue();
+                mapping[i] = indexes.getOrDefault(params[i], -1);
+            }
+
+            // Keep the statement open along with the loader's other cached
+            // statements, unless its SQL depends on the bind values
+            query.keepStatement(!FALSE.equals(ctx.settings().isCachePreparedStatementInLoader())
+                && executePreparedStatements(ctx.settings())
+                && getParamType(ctx.settings()) != INLINED);
+        }
+
+        /**
+         * Type-safety...
+         */
+        private final <T> void addValue0(Field<T> field, Object value, int index, Map<Param<?>, Integer> indexes) {
+            Param<T> param = DSL.val(value, field);
+            indexes.put(param, index);
+            query.addValue(field, param);
+        }
+
+        /**
+         * Type-safety...
+         */
+        private final <T> void addValueForUpdate0(Field<T> field, Object value, int index, Map<Param<?>, Integer> indexes) {
+            Param<T> param = DSL.val(value, field);
+            indexes.put(param, index);
+            query.addValueForUpdate(field, param);
+        }
+
+        /**
+         * The bind values of the template for a list of rows, in the order
+         * expected by {@link BatchBindStep#bind(Object...)}.
+         */
+        final Object[] bindValues(List<Object[]> values) {
+            Object[] result = new Object[params.length];
+
+            for (int i = 0; i < params.length; i++)
+                result[i] = mapping[i] < 0
+                    ? params[i].getValue()
+                    : values.get(mapping[i] / fields.length)[mapping[i] % fields.length];
+
+            return result;
+        }
+
+        final void bind(List<Object[]> values) {
+            for (int i = 0; i < params.length; i++)
+                if (mapping[i] >= 0)
+                    params[i].setConverted0(values.get(mapping[i] / fields.length)[mapping[i] % fields.length]);
+        }
+
+        final int execute(List<Object[]> values) {
+            bind(values);
+            int result = query.execute();
+
+            // Some statements are rendered with inline values, or with bind
+            // values that are not in the template, e.g. when emulating the
+            // multi-row INSERT. Those have to be rendered again every time.
+            if (!executed) {
+                executed = true;
+
+                AbstractQuery<?> q = (AbstractQuery<?>) query;
+
+                if (q.keepStatement() && !reusable(q.rendered)) {
+                    q.close();
+                    q.keepStatement(false);
+                }
+            }
+
+            return result;
+        }
+
+        final void close() {
+            ((AbstractQuery<?>) query).close();
+        }
+
+        private final boolean reusable(Rendered rendered) {
+            if (rendered == null || rendered.bindValues == null)
+                return false;
+
+            Set<Param<?>> set = Collections.newSetFromMap(new IdentityHashMap<>());
+            set.addAll(Arrays.asList(params));
+
+            for (Param<?> p : rendered.bindValues)
+                if (!set.contains(p))
+                    return false;
+
+            return true;
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -1000,22 +1433,22 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final int processed() {
-        return processed;
+        return rowCtx.processed();
     }
 
     @Override
     public final int executed() {
-        return executed;
+        return rowCtx.executed();
     }
 
     @Override
     public final int ignored() {
-        return ignored;
+        return rowCtx.ignored();
     }
 
     @Override
     public final int stored() {
-        return stored;
+        return rowCtx.stored();
     }
 
     @Override
@@ -1024,7 +1457,12 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private class DefaultLoaderContext implements LoaderContext {
-        Object[] row;
+        final Worker worker;
+        Object[]     row;
+
+        DefaultLoaderContext(Worker worker) {
+            this.worker = worker;
+        }
 
         @Override
         public final LoaderContext row(Object[] r) {
@@ -1044,22 +1482,40 @@ final class LoaderImpl<R extends Record> implements
 
         @Override
         public final int processed() {
-            return processed;
+            return sum(w -> w.processed);
         }
 
         @Override
         public final int executed() {
-            return executed;
+            return sum(w -> w.executed);
         }
 
         @Override
         public final int ignored() {
-            return ignored;
+            return sum(w -> w.ignored);
         }
 
         @Override
         public final int stored() {
-            return stored;
+            return sum(w -> w.stored);
+        }
+
+        /**
+         * The counts of this context's worker, or of all workers if this is
+         * the {@link Loader}'s own context in parallel mode.
+         */
+        private final int sum(ToIntFunction<Worker> count) {
+            if (worker != null)
+                return count.applyAsInt(worker);
+
+            int result = 0;
+
+            synchronized (workers) {
+                for (Worker w : workers)
+                    result += count.applyAsInt(w);
+            }
+
+            return result;
         }
     }
 }
@@ -0,0 +1,318 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.json.ContentHandler;
+import org.jooq.tools.json.JSONParser;
+
+/**
+ * A streaming JSON reader for the {@link LoaderImpl}.
+ * <p>
+ * Unlike the {@link JSONReader}, this reader never materialises the
+ * <code>records</code> array. Parsing is suspended after each record, so only
+ * the record that is currently being read is kept in memory. Supported
+ * layouts are:
+ * <ul>
+ * <li>The {@link org.jooq.Formattable#formatJSON()} layout, i.e.
+ * <code>{"fields":[...],"records":[...]}</code>, where <code>fields</code>
+ * should precede <code>records</code></li>
+ * <li>Plain arrays of arrays</li>
+ * <li>Plain arrays of objects, whose field names are taken from the first
+ * object</li>
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+final class LoaderJSONReader implements Iterator<Object[]>, AutoCloseable {
+
+    private static final Object        RECORDS = new Object();
+
+    private final Reader               reader;
+    private final JSONParser           parser;
+    private final Handler              handler;
+    private final List<Field<?>>       header;
+    private Map<String, Integer>       indexes;
+    private Field<?>[]                 fields;
+    private Object[]                   next;
+    private boolean                    started;
+    private boolean                    done;
+
+    LoaderJSONReader(Reader reader) {
+        this.reader = reader;
+        this.parser = new JSONParser();
+        this.handler = new Handler();
+        this.header = new ArrayList<>();
+    }
+
+    /**
+     * The fields of the input, which are known once the header or the first
+     * record has been read, or <code>null</code> if the input is empty.
+     */
+    final Field<?>[] fields() {
+        hasNext();
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        while (next == null && !done) {
+            try {
+                parser.parse(reader, handler, started);
+                started = true;
+            }
+            catch (Exception e) {
+                throw new DataAccessException("Could not read the JSON input", e);
+            }
+
+            // The parser returns either when the handler suspends it after a
+            // record, or when the input is exhausted.
+            if (next == null)
+                done = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private final void header(Object value) {
+        if (value instanceof List<?> list) {
+            for (Object o : list) {
+                if (o instanceof Map) {
+                    Map<String, Object> field = (Map<String, Object>) o;
+                    String catalog = (String) field.get("catalog");
+                    String schema = (String) field.get("schema");
+                    String table = (String) field.get("table");
+                    String name = (String) field.get("name");
+                    String type = (String) field.get("type");
+
+                    // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
+                    header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final boolean record(Object value) {
+        if (value instanceof List<?> list) {
+            if (fields == null)
+                init(header.isEmpty() ? Tools.fields(list.size()) : header.toArray(Tools.EMPTY_FIELD));
+
+            Object[] result = new Object[fields.length];
+            for (int i = 0; i < result.length && i < list.size(); i++)
+                result[i] = convert(fields[i], list.get(i));
+
+            next = result;
+            return true;
+        }
+        else if (value instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) value;
+
+            if (fields == null) {
+                if (header.isEmpty())
+                    for (String key : map.keySet())
+                        header.add(field(name(key), VARCHAR));
+
+                init(header.toArray(Tools.EMPTY_FIELD));
+            }
+
+            Object[] result = new Object[fields.length];
+            for (Entry<String, Object> e : map.entrySet()) {
+                Integer i = indexes.get(e.getKey());
+
+                if (i != null)
+                    result[i] = convert(fields[i], e.getValue());
+            }
+
+            next = result;
+            return true;
+        }
+
+        // [#12930] NULL records are possible, but cannot be loaded
+        else
+            return false;
+    }
+
+    private final void init(Field<?>[] f) {
+        fields = f;
+        indexes = new HashMap<>();
+
+        for (int i = 0; i < f.length; i++)
+            indexes.putIfAbsent(f[i].getName(), i);
+    }
+
+    private static final Object convert(Field<?> field, Object value) {
+
+        // [#8829] LoaderImpl expects binary data to be encoded in base64,
+        //         not according to org.jooq.tools.Convert
+        if (field.getType() == byte[].class && value instanceof String s)
+            return Base64.getDecoder().decode(s);
+        else
+            return field.getDataType().convert(value);
+    }
+
+    /**
+     * A {@link ContentHandler} that suspends parsing after each record.
+     * <p>
+     * Content other than the records array (e.g. the header, or the contents
+     * of an individual record) is read into containers, as with the
+     * {@link JSONReader}.
+     */
+    private final class Handler implements ContentHandler {
+
+        private final Deque<Object> stack = new ArrayDeque<>();
+        private final Deque<String> keys  = new ArrayDeque<>();
+        private Object              root;
+
+        @SuppressWarnings("unchecked")
+        private final boolean value(Object value) {
+            Object top = stack.peek();
+
+            if (top == null)
+                return true;
+            else if (top == RECORDS)
+                return !record(value);
+            else if (top instanceof List)
+                ((List<Object>) top).add(value);
+            else if (top == root && "fields".equals(keys.peek()))
+                header(value);
+            else
+                ((Map<String, Object>) top).put(keys.peek(), value);
+
+            return true;
+        }
+
+        @Override
+        public final void startJSON() {}
+
+        @Override
+        public final void endJSON() {}
+
+        @Override
+        public final boolean startObject() {
+            Map<String, Object> map = new LinkedHashMap<>();
+
+            if (stack.isEmpty())
+                root = map;
+
+            stack.push(map);
+            return true;
+        }
+
+        @Override
+        public final boolean endObject() {
+            return value(stack.pop());
+        }
+
+        @Override
+        public final boolean startObjectEntry(String key) {
+            keys.push(key);
+            return true;
+        }
+
+        @Override
+        public final boolean endObjectEntry() {
+            keys.pop();
+            return true;
+        }
+
+        @Override
+        public final boolean startArray() {
+            Object top = stack.peek();
+
+            if (top == null || top == root && "records".equals(keys.peek()))
+                stack.push(RECORDS);
+            else
+                stack.push(new ArrayList<>());
+
+            return true;
+        }
+
+        @Override
+        public final boolean endArray() {
+            Object top = stack.pop();
+
+            if (top == RECORDS)
+                return true;
+            else
+                return value(top);
+        }
+
+        @Override
+        public final boolean primitive(Object value) {
+            return value(value);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jooq.Field;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A streaming XML reader for the {@link LoaderImpl}.
+ * <p>
+ * This reads the {@link org.jooq.Formattable#formatXML()} layout, i.e.
+ * <code>&lt;result&gt;&lt;fields&gt;...&lt;/fields&gt;&lt;records&gt;&lt;record&gt;...&lt;/record&gt;&lt;/records&gt;&lt;/result&gt;</code>,
+ * with or without header, and with any of the
+ * {@link org.jooq.XMLFormat.RecordFormat} encodings. Records are pulled from
+ * the input one at a time, so only the record that is currently being read is
+ * kept in memory.
+ * <p>
+ * Just like the {@link XMLHandler}, values are matched with fields by position.
+ * If there is no header, the field names are taken from the first record.
+ *
+ * @author Lukas Eder
+ */
+final class LoaderXMLReader implements Iterator<Object[]>, AutoCloseable {
+
+    private final Reader          reader;
+    private final XMLStreamReader xml;
+    private final List<Field<?>>  header;
+    private final List<String>    values;
+    private Field<?>[]            fields;
+    private Object[]              next;
+    private boolean               done;
+
+    LoaderXMLReader(Reader reader) {
+        this.reader = reader;
+        this.header = new ArrayList<>();
+        this.values = new ArrayList<>();
+
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+
+            // [JOOX #136] Prevent OWASP attack vectors
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            this.xml = factory.createXMLStreamReader(reader);
+        }
+        catch (XMLStreamException e) {
+            throw new DataAccessException("Could not read the XML input", e);
+        }
+    }
+
+    /**
+     * The fields of the input, which are known once the header or the first
+     * record has been read, or <code>null</code> if the input is empty.
+     */
+    final Field<?>[] fields() {
+        hasNext();
+        return fields;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = read();
+            }
+            catch (XMLStreamException e) {
+                throw new DataAccessException("Could not read the XML input", e);
+            }
+
+            if (next == null)
+                done = true;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final Object[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        try {
+            xml.close();
+        }
+        catch (XMLStreamException ignore) {}
+
+        reader.close();
+    }
+
+    private final Object[] read() throws XMLStreamException {
+        boolean inFields = false;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+
+            if (event == START_ELEMENT) {
+                String localName = xml.getLocalName();
+
+                if ("fields".equals(localName)) {
+                    inFields = true;
+                }
+                else if (inFields && "field".equals(localName)) {
+                    String catalog = xml.getAttributeValue(null, "catalog");
+                    String schema = xml.getAttributeValue(null, "schema");
+                    String table = xml.getAttributeValue(null, "table");
+                    String name = xml.getAttributeValue(null, "name");
+                    String type = xml.getAttributeValue(null, "type");
+
+                    // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
+                    header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
+                }
+                else if ("record".equals(localName)) {
+                    Object[] result = record();
+
+                    if (result != null)
+                        return result;
+                }
+            }
+            else if (event == END_ELEMENT && "fields".equals(xml.getLocalName())) {
+                inFields = false;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Read the values of a record, after its start element, or return
+     * <code>null</code> if the record is empty.
+     */
+    private final Object[] record() throws XMLStreamException {
+        List<String> names = fields == null && header.isEmpty() ? new ArrayList<>() : null;
+        values.clear();
+
+        while (xml.nextTag() == START_ELEMENT) {
+            boolean nil = "true".equals(xml.getAttributeValue(W3C_XML_SCHEMA_INSTANCE_NS_URI, "nil"));
+
+            if (names != null) {
+                String fieldName = xml.getAttributeValue(null, "field");
+                names.add("value".equals(xml.getLocalName()) && fieldName != null ? fieldName : xml.getLocalName());
+            }
+
+            String text = text();
+            values.add(nil ? null : text);
+        }
+
+        // [#12930] NULL records are possible, but cannot be loaded
+        if (values.isEmpty())
+            return null;
+
+        if (fields == null) {
+            if (names != null)
+                for (String n : names)
+                    header.add(field(name(n), VARCHAR));
+
+            fields = header.toArray(Tools.EMPTY_FIELD);
+        }
+
+        Object[] result = new Object[fields.length];
+        for (int i = 0; i < result.length && i < values.size(); i++)
+            result[i] = convert(fields[i], values.get(i));
+
+        return result;
+    }
+
+    /**
+     * Read the text content of the current element, including that of any
+     * nested elements, up to and including its end element.
+     */
+    private final String text() throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+
+        for (int depth = 1; depth > 0;) {
+            switch (xml.next()) {
+                case START_ELEMENT:
+                    depth++;
+                    break;
+
+                case END_ELEMENT:
+                    depth--;
+                    break;
+
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    sb.append(xml.getText());
+                    break;
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static final Object convert(Field<?> field, String value) {
+
+        // [#13181] String NULL and '' values cannot be distinguished without xsi:nil
+        if (value == null || value.isEmpty() && !field.getDataType().isString())
+            return null;
+
+        // [#12134] Binary values are encoded in base64
+        else if (field.getDataType().isBinary())
+            return Base64.getDecoder().decode(value);
+        else
+            return field.getDataType().convert(value);
+    }
+}
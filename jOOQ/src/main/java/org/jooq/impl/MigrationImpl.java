@@ -40,6 +40,7 @@ package org.jooq.impl;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
+import static org.jooq.impl.CacheType.CACHE_META_SNAPSHOT;
 import static org.jooq.impl.DSL.createSchemaIfNotExists;
 import static org.jooq.impl.DSL.dropSchemaIfExists;
 import static org.jooq.impl.DSL.dropTableIfExists;
@@ -189,6 +190,9 @@ final class MigrationImpl extends AbstractScope implements Migration {
     private final Queries revertUntrackedQueries(Set<Schema> includedSchemas) {
         Commit currentCommit = currentCommit();
         Meta currentMeta = currentCommit.meta();
+
+        // Migrations must not compare against a stale meta snapshot
+        CACHE_META_SNAPSHOT.clear(configuration());
         Meta existingMeta = dsl().meta().filterSchemas(includedSchemas::contains);
 
         Set<Schema> expectedSchemas = new HashSet<>();
@@ -306,6 +310,7 @@ final class MigrationImpl extends AbstractScope implements Migration {
                     }
                 }
                 finally {
+                    CACHE_META_SNAPSHOT.clear(configuration());
                     listener.migrationEnd(ctx);
                 }
             }
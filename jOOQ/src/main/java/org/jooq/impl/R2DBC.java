@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 // ...
+import static java.lang.Boolean.TRUE;
 import static org.jooq.ContextConverter.scoped;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.impl.Internal.subscriber;
@@ -66,9 +67,15 @@ import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -77,6 +84,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import org.jooq.BindingGetResultSetContext;
@@ -219,23 +227,34 @@ final class R2DBC {
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
 
+        /**
+         * The demand that has been passed on to the {@link #subscription}, but
+         * that hasn't been satisfied yet.
+         */
+        final AtomicLong                    granted;
+
         Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.granted = new AtomicLong();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+            resultSubscriber.downstream.request2(this);
         }
 
         @Override
         public final void onNext(T value) {
             if (!resultSubscriber.downstream.completed.get()) {
+                granted.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1));
                 resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
+
+                // Demand signalled synchronously from within onNext() isn't
+                // forwarded by request(), see required_spec303
+                resultSubscriber.downstream.request2(this);
             }
         }
 
@@ -254,8 +273,19 @@ final class R2DBC {
             resultSubscriber.downstream.forwarders.remove(forwarderIndex);
 
             // [#13343] [#13669] Prevent premature completion
-            if (resultSubscriber.downstream.forwarders.isEmpty() && resultSubscriber.completionRequested.get())
+            if (resultSubscriber.downstream.forwarders.isEmpty() && (cancelled || resultSubscriber.completionRequested.get()))
                 resultSubscriber.complete(cancelled);
+
+            // Results are requested one by one. Demand that this result
+            // couldn't satisfy is passed on to the next one.
+            else if (!cancelled) {
+                long l = granted.getAndSet(0);
+
+                if (l > 0)
+                    resultSubscriber.downstream.requested.accumulateAndGet(l, R2DBC::addNoOverflow);
+
+                resultSubscriber.requestNext();
+            }
         }
     }
 
@@ -264,16 +294,30 @@ final class R2DBC {
         final AbstractNonBlockingSubscription<? super T> downstream;
         final AtomicBoolean                              completed;
         final AtomicBoolean                              completionRequested;
+        final AtomicReference<Subscription>              subscription;
 
         AbstractResultSubscriber(AbstractNonBlockingSubscription<? super T> downstream) {
             this.downstream = downstream;
             this.completed = new AtomicBoolean();
             this.completionRequested = new AtomicBoolean();
+            this.subscription = new AtomicReference<>();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
-            s.request(Long.MAX_VALUE);
+            subscription.set(s);
+
+            // Don't request the next Result before the previous one has been
+            // consumed, to keep the number of buffered rows bounded by the
+            // downstream demand.
+            s.request(1);
+        }
+
+        final void requestNext() {
+            Subscription s = subscription.get();
+
+            if (s != null)
+                s.request(1);
         }
 
         @Override
@@ -322,32 +366,57 @@ final class R2DBC {
         @SuppressWarnings("unchecked")
         @Override
         public final void onNext(Result r) {
-            r.map((row, meta) -> {
+            r.map(new RecordMapper()).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+        }
+
+        /**
+         * The mapping of all the rows of a single {@link Result}.
+         * <p>
+         * Rows are mapped sequentially and share the same {@link RowMetadata},
+         * so the fields, the record factory, and the binding context are
+         * resolved only once, from the first row.
+         */
+        final class RecordMapper implements BiFunction<Row, RowMetadata, R> {
+
+            final R2DBCResultSet                       rs;
+            final DefaultBindingGetResultSetContext<?> ctx;
+            Field<?>[]                                 fields;
+            Supplier<AbstractRecord>                   factory;
+
+            @SuppressWarnings("unchecked")
+            RecordMapper() {
+                this.rs = new R2DBCResultSet(query.configuration());
+
+                // TODO: What data to pass here?
+                this.ctx = new DefaultBindingGetResultSetContext(
+                    new SimpleExecuteContext(query.configuration(), query.configuration().data()),
+                    rs,
+                    0
+                );
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public final R apply(Row row, RowMetadata meta) {
                 try {
-                    // TODO: Cache this getFields() call
-                    Field<?>[] fields = query.getFields(() -> new R2DBCResultSetMetaData(query.configuration(), meta));
+                    if (fields == null) {
+                        fields = query.getFields(() -> new R2DBCResultSetMetaData(query.configuration(), meta));
+                        factory = recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields));
+                    }
+
+                    rs.row(row, meta);
 
                     // TODO: This call is duplicated from CursorImpl and related classes.
                     // Refactor this call to make sure code is re-used, especially when
                     // ExecuteListener lifecycle management is implemented
-                    RecordDelegate<? extends AbstractRecord> delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), query.configuration());
-
-                    return (R) delegate.operate(record -> {
-
-                        // TODO: What data to pass here?
-                        DefaultBindingGetResultSetContext<?> ctx = new DefaultBindingGetResultSetContext(
-                            new SimpleExecuteContext(query.configuration(), query.configuration().data()),
-                            new R2DBCResultSet(query.configuration(), row, meta),
-                            0
-                        );
+                    return (R) Tools.newRecord(true, factory, query.configuration()).operate(record -> {
 
                         // TODO: Make sure all the embeddable records, and other types of nested records are supported
                         for (int i = 0; i < fields.length; i++) {
                             ctx.index(i + 1);
                             ctx.field((Field) fields[i]);
                             fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                            record.values[i] = ctx.value();
-                            record.originals[i] = ctx.value();
+                            record.setValueAndOriginal(i, ctx.value());
                         }
 
                         return record;
@@ -357,7 +426,7 @@ final class R2DBC {
                     onError(t);
                     return null;
                 }
-            }).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+            }
         }
     }
 
@@ -502,37 +571,229 @@ final class R2DBC {
             try {
                 batch.checkBindValues();
                 Rendered rendered = rendered(batch.configuration, batch.query);
-                Statement stmt = c.createStatement(rendered.sql);
                 Param<?>[] params = rendered.bindValues.toArray(EMPTY_PARAM);
-                boolean first = true;
+                int size = batch.allBindValues.size();
+                int chunkSize = batch.chunkSize();
+
+                new ChunkedResults(
+                    Math.max(1, (size + chunkSize - 1) / chunkSize),
+                    Math.max(1, defaultIfNull(batch.configuration.settings().getReactiveBatchChunksInFlight(), 1)),
+                    i -> execute(c, rendered.sql, params, batch.allBindValues.subList(i * chunkSize, Math.min(size, (i + 1) * chunkSize)))
+                ).subscribe(new RowCountSubscriber(downstream));
+            }
 
-                for (Object[] bindValues : batch.allBindValues) {
+            // [#13343] Cancel the downstream in case of a rendering bug in jOOQ
+            catch (Throwable t) {
+                downstream.cancel();
+                onError(t);
+            }
+        }
+
+        private final Publisher<? extends Result> execute(Connection c, String sql, Param<?>[] params, List<Object[]> chunk) {
+            Statement stmt = c.createStatement(sql);
+            boolean first = true;
 
-                    // Change of specification in 0.9.0.RELEASE:
-                    // No trailing add() calls are allowed anymore
-                    // https://github.com/r2dbc/r2dbc-spi/issues/229
-                    if (first)
-                        first = false;
+            for (Object[] bindValues : chunk) {
+
+                // Change of specification in 0.9.0.RELEASE:
+                // No trailing add() calls are allowed anymore
+                // https://github.com/r2dbc/r2dbc-spi/issues/229
+                if (first)
+                    first = false;
+                else
+                    stmt = stmt.add();
+
+                // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
+                //                 list to preserve type information
+                // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
+                //                 plain SQL. In that case, infer the bind value type directly from the bind value
+                visitAll(new DefaultBindContext(batch.configuration, null, new R2DBCPreparedStatement(batch.query.configuration(), stmt)),
+                    (params.length > 0)
+                        ? fields(bindValues, params)
+                        : fields(bindValues));
+            }
+
+            return stmt.execute();
+        }
+    }
+
+    /**
+     * A {@link Publisher} concatenating the {@link Result} publishers of a
+     * number of chunks.
+     * <p>
+     * Chunks are executed only when there is demand for further results, and
+     * at most <code>inFlight</code> chunks are executed at the same time. Their
+     * results are emitted in chunk order.
+     */
+    static final class ChunkedResults implements Publisher<Result> {
+
+        final int                                                chunks;
+        final int                                                inFlight;
+        final IntFunction<? extends Publisher<? extends Result>> chunk;
+
+        ChunkedResults(int chunks, int inFlight, IntFunction<? extends Publisher<? extends Result>> chunk) {
+            this.chunks = chunks;
+            this.inFlight = inFlight;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public final void subscribe(Subscriber<? super Result> subscriber) {
+            subscriber.onSubscribe(new ChunkedResultsSubscription(subscriber));
+        }
+
+        final class ChunkedResultsSubscription implements Subscription {
+
+            final Subscriber<? super Result> subscriber;
+            final AtomicLong                 requested;
+            final AtomicInteger              wip;
+
+            // These are accessed only by the thread that is draining
+            final ArrayDeque<Chunk>          active;
+            int                              next;
+            boolean                          done;
+            volatile boolean                 cancelled;
+
+            ChunkedResultsSubscription(Subscriber<? super Result> subscriber) {
+                this.subscriber = subscriber;
+                this.requested = new AtomicLong();
+                this.wip = new AtomicInteger();
+                this.active = new ArrayDeque<>();
+            }
+
+            @Override
+            public final void request(long n) {
+                if (n <= 0) {
+                    cancelled = true;
+                    subscriber.onError(new IllegalArgumentException("Rule 3.9 non-positive request signals are illegal"));
+                }
+                else {
+                    requested.accumulateAndGet(n, R2DBC::addNoOverflow);
+                    drain();
+                }
+            }
+
+            @Override
+            public final void cancel() {
+                cancelled = true;
+                drain();
+            }
+
+            final void drain() {
+
+                // Chunks may signal concurrently, and the subscriber may
+                // request synchronously from within onNext()
+                if (wip.getAndIncrement() != 0)
+                    return;
+
+                int missed = 1;
+                do {
+                    drain0();
+                }
+                while ((missed = wip.addAndGet(-missed)) != 0);
+            }
+
+            private final void drain0() {
+                while (!done) {
+                    if (cancelled) {
+                        cancelAll();
+                        return;
+                    }
+
+                    while (active.size() < inFlight && next < chunks && requested.get() > 0)
+                        active.add(start(next++));
+
+                    Chunk head = active.peek();
+                    Result r;
+
+                    if (head == null) {
+                        if (next >= chunks) {
+                            done = true;
+                            subscriber.onComplete();
+                        }
+
+                        return;
+                    }
+                    else if (requested.get() > 0 && (r = head.results.poll()) != null) {
+                        requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : l - 1);
+                        subscriber.onNext(r);
+                    }
+                    else if (head.done && head.results.isEmpty()) {
+                        active.poll();
+
+                        if (head.error != null) {
+                            cancelAll();
+                            subscriber.onError(head.error);
+                            return;
+                        }
+                    }
                     else
-                        stmt = stmt.add();
-
-                    // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
-                    //                 list to preserve type information
-                    // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
-                    //                 plain SQL. In that case, infer the bind value type directly from the bind value
-                    visitAll(new DefaultBindContext(batch.configuration, null, new R2DBCPreparedStatement(batch.query.configuration(), stmt)),
-                        (params.length > 0)
-                            ? fields(bindValues, params)
-                            : fields(bindValues));
+                        return;
+                }
+            }
+
+            private final Chunk start(int i) {
+                Chunk c = new Chunk();
+
+                try {
+                    chunk.apply(i).subscribe(c);
+                }
+                catch (Throwable t) {
+                    c.onError(t);
                 }
 
-                stmt.execute().subscribe(new RowCountSubscriber(downstream));
+                return c;
             }
 
-            // [#13343] Cancel the downstream in case of a rendering bug in jOOQ
-            catch (Throwable t) {
-                downstream.cancel();
-                onError(t);
+            private final void cancelAll() {
+                done = true;
+
+                for (Chunk c : active)
+                    c.cancel();
+
+                active.clear();
+            }
+
+            final class Chunk implements Subscriber<Result> {
+
+                final Queue<Result>                 results      = new ConcurrentLinkedQueue<>();
+                final AtomicReference<Subscription> subscription = new AtomicReference<>();
+                volatile Throwable                  error;
+                volatile boolean                    done;
+
+                @Override
+                public final void onSubscribe(Subscription s) {
+                    subscription.set(s);
+
+                    // The number of results per chunk is bounded by the chunk size
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public final void onNext(Result r) {
+                    results.add(r);
+                    drain();
+                }
+
+                @Override
+                public final void onError(Throwable t) {
+                    error = t;
+                    done = true;
+                    drain();
+                }
+
+                @Override
+                public final void onComplete() {
+                    done = true;
+                    drain();
+                }
+
+                final void cancel() {
+                    Subscription s = subscription.get();
+
+                    if (s != null)
+                        s.cancel();
+                }
             }
         }
     }
@@ -594,12 +855,23 @@ final class R2DBC {
         }
 
         private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
+            for (Forwarding<T> f : forwarders.values())
+                request2(f);
         }
 
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+        /**
+         * Pass on all outstanding downstream demand to a forwarder's upstream,
+         * rather than requesting rows one by one.
+         */
+        final void request2(Forwarding<?> f) {
+            Subscription s = f.subscription.get();
+
+            if (s != null && !completed.get()) {
+                long n = requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : 0);
+
+                if (n > 0 && f.granted.getAndAccumulate(n, R2DBC::addNoOverflow) != Long.MAX_VALUE)
+                    s.request(n);
+            }
         }
 
         @Override
@@ -1068,16 +1340,56 @@ final class R2DBC {
     static final class R2DBCResultSet extends DefaultResultSet {
 
         final Configuration c;
-        final Row           r;
-        final RowMetadata   m;
+        final boolean       convert;
+        Row                 r;
+        RowMetadata         m;
         boolean             wasNull;
 
-        R2DBCResultSet(Configuration c, Row r, RowMetadata m) {
+        R2DBCResultSet(Configuration c) {
             super(null, null, () -> new SQLFeatureNotSupportedException("Unsupported operation of the JDBC to R2DBC bridge."));
 
             this.c = c;
-            this.r = new DefaultRow(c, r);
-            this.m = m;
+
+            // These dialects are converted by jOOQ, as some drivers can't
+            // convert between data types. See:
+            // - https://github.com/mirromutth/r2dbc-mysql/issues/177
+            // - https://github.com/r2dbc/r2dbc-h2/issues/190
+            switch (c.family()) {
+                case H2:
+                case MYSQL:
+                    this.convert = true;
+                    break;
+
+                default:
+                    this.convert = false;
+                    break;
+            }
+        }
+
+        /**
+         * Move this result set to the next row of the same {@link Result}.
+         */
+        final R2DBCResultSet row(Row row, RowMetadata meta) {
+            this.r = row;
+            this.m = meta;
+            this.wasNull = false;
+            return this;
+        }
+
+        private final <T> T get(int columnIndex, Class<T> type) {
+            return convert ? get0(r.get(columnIndex - 1), type) : r.get(columnIndex - 1, type);
+        }
+
+        @SuppressWarnings("unchecked")
+        private final <T> T get0(Object o, Class<T> uType) {
+            if (o == null)
+                return null;
+
+            Converter<Object, T> converter = c.converterProvider().provide((Class<Object>) o.getClass(), uType);
+            if (converter == null)
+                throw new DataTypeException("Cannot convert from " + o.getClass() + " to " + uType + ". Please report an issue here: https://jooq.org/bug. As a workaround, you can implement a ConverterProvider.");
+            else
+                return scoped(converter).from(o, converterContext(c));
         }
 
         private final <T> T wasNull(T nullable) {
@@ -1090,17 +1402,17 @@ final class R2DBC {
         }
 
         private final <T, U> U nullable(int columnIndex, Class<T> type, Function<? super T, ? extends U> conversion) {
-            T t = wasNull(r.get(columnIndex - 1, type));
+            T t = wasNull(get(columnIndex, type));
             return wasNull ? null : conversion.apply(t);
         }
 
         private final <U> U nullable(int columnIndex, Function<? super Object, ? extends U> conversion) {
-            Object t = wasNull(r.get(columnIndex - 1));
+            Object t = wasNull(get(columnIndex, Object.class));
             return wasNull ? null : conversion.apply(t);
         }
 
         private final <T> T nonNull(int columnIndex, Class<T> type, T nullValue) {
-            T t = wasNull(r.get(columnIndex - 1, type));
+            T t = wasNull(get(columnIndex, type));
             return wasNull ? nullValue : t;
         }
 
@@ -1195,63 +1507,6 @@ final class R2DBC {
         public final Array getArray(int columnIndex) throws SQLException {
             return new MockArray<>(c.dialect(), (Object[]) nullable(columnIndex, Object.class), Object[].class);
         }
-
-        private static final record DefaultRow(Configuration c, Row r) implements Row {
-
-            // ---------------------------------------------------------------------
-            // 0.9.0.M1 API
-            // ---------------------------------------------------------------------
-
-            // These methods are proxied for some drivers that can't convert
-            // between data types. See:
-            // - https://github.com/mirromutth/r2dbc-mysql/issues/177
-            // - https://github.com/r2dbc/r2dbc-h2/issues/190
-
-            @Override
-            public final <T> T get(int index, Class<T> uType) {
-                switch (c.family()) {
-                    case H2:
-                    case MYSQL:
-                        return get0(r.get(index), uType);
-
-                    default:
-                        return r.get(index, uType);
-                }
-            }
-
-            @Override
-            public final <T> T get(String name, Class<T> uType) {
-                switch (c.family()) {
-                    case H2:
-                    case MYSQL:
-                        return get0(r.get(name), uType);
-
-                    default:
-                        return r.get(name, uType);
-                }
-            }
-
-            @SuppressWarnings("unchecked")
-            private final <T> T get0(Object o, Class<T> uType) {
-                if (o == null)
-                    return null;
-
-                Converter<Object, T> converter = c.converterProvider().provide((Class<Object>) o.getClass(), uType);
-                if (converter == null)
-                    throw new DataTypeException("Cannot convert from " + o.getClass() + " to " + uType + ". Please report an issue here: https://jooq.org/bug. As a workaround, you can implement a ConverterProvider.");
-                else
-                    return scoped(converter).from(o, converterContext(c));
-            }
-
-            // ---------------------------------------------------------------------
-            // 0.9.0.M2 API
-            // ---------------------------------------------------------------------
-
-            @Override
-            public final RowMetadata getMetadata() {
-                return r.getMetadata();
-            }
-        }
     }
 
     static final record R2DBCResultSetMetaData(Configuration c, RowMetadata m) implements ResultSetMetaData {
@@ -1436,24 +1691,115 @@ final class R2DBC {
     // XXX: Legacy implementation
     // -------------------------------------------------------------------------
 
-    static final class BlockingRecordSubscription<R extends Record> extends AbstractSubscription<R> {
+    /**
+     * A subscription to a blocking JDBC execution.
+     * <p>
+     * The blocking work either runs on the thread requesting results, or, if
+     * {@link Settings#isBlockingSubscriptionOffloading()} is set, on an
+     * {@link Executor} obtained from {@link Configuration#executorProvider()},
+     * in which case at most one task drains the requested results at a time.
+     */
+    static abstract class BlockingSubscription<T> extends AbstractSubscription<T> {
+        final Executor      executor;
+        final AtomicInteger wip;
+
+        BlockingSubscription(Configuration configuration, Subscriber<? super T> subscriber) {
+            super(subscriber);
+
+            this.executor = TRUE.equals(configuration.settings().isBlockingSubscriptionOffloading())
+                ? configuration.executorProvider().provide()
+                : null;
+            this.wip = new AtomicInteger();
+        }
+
+        @Override
+        final void request0() {
+            if (executor == null)
+                drain0();
+            else
+                offload();
+        }
+
+        @Override
+        final void cancel0(boolean cancelled) {
+
+            // Let the draining task release resources, if there is one
+            if (executor == null)
+                cancel1();
+            else
+                offload();
+        }
+
+        private final void offload() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drainLoop);
+                }
+                catch (Throwable t) {
+                    wip.set(0);
+                    subscriber.onError(t);
+                    cancel1();
+                }
+            }
+        }
+
+        private final void drainLoop() {
+            int missed = 1;
+
+            do {
+                if (completed.get())
+                    cancel1();
+                else
+                    drain0();
+            }
+            while ((missed = wip.addAndGet(-missed)) != 0);
+        }
+
+        /**
+         * Produce requested results, blocking the current thread.
+         */
+        abstract void drain0();
+
+        /**
+         * Release any resources after cancellation.
+         */
+        void cancel1() {}
+    }
+
+    static final class BlockingRecordSubscription<R extends Record> extends BlockingSubscription<R> {
         private final ResultQueryTrait<R> query;
+        private final int                 prefetch;
         private volatile Cursor<R>        c;
+        private Iterator<R>               buffer;
 
         BlockingRecordSubscription(ResultQueryTrait<R> query, Subscriber<? super R> subscriber) {
-            super(subscriber);
+            super(Tools.configuration(query), subscriber);
 
             this.query = query;
+            this.prefetch = executor == null ? 1 : Math.max(1, defaultIfNull(Tools.settings(Tools.configuration(query)).getBlockingSubscriptionPrefetch(), 32));
         }
 
         @Override
-        final synchronized void request0() {
+        final synchronized void drain0() {
             try {
                 if (c == null)
                     c = query.fetchLazyNonAutoClosing();
 
                 while (moreRequested()) {
-                    R r = c.fetchNext();
+                    R r;
+
+                    if (prefetch == 1) {
+                        r = c.fetchNext();
+                    }
+
+                    // Fetch records ahead of demand, to be emitted without
+                    // having to wait for the next fetch
+                    else {
+                        if (buffer == null || !buffer.hasNext())
+                            buffer = c.fetchNext(prefetch).iterator();
+
+                        r = buffer.hasNext() ? buffer.next() : null;
+                    }
 
                     if (r == null) {
                         subscriber.onComplete();
@@ -1471,22 +1817,22 @@ final class R2DBC {
         }
 
         @Override
-        final void cancel0(boolean cancelled) {
+        final void cancel1() {
             safeClose(c);
         }
     }
 
-    static final class BlockingRowCountSubscription extends AbstractSubscription<Integer> {
+    static final class BlockingRowCountSubscription extends BlockingSubscription<Integer> {
         final AbstractRowCountQuery query;
 
         BlockingRowCountSubscription(AbstractRowCountQuery query, Subscriber<? super Integer> subscriber) {
-            super(subscriber);
+            super(Tools.configuration(query), subscriber);
 
             this.query = query;
         }
 
         @Override
-        final void request0() {
+        final void drain0() {
             try {
                 subscriber.onNext(query.execute());
                 subscriber.onComplete();
@@ -1497,7 +1843,57 @@ final class R2DBC {
         }
     }
 
-    static final class BlockingTransactionSubscription<T> extends AbstractSubscription<T> {
+    static final class BlockingBatchSingleSubscription extends BlockingSubscription<Integer> {
+        final BatchSingle batch;
+        final int         chunkSize;
+        int               next;
+        int[]             counts;
+        int               i;
+
+        BlockingBatchSingleSubscription(BatchSingle batch, Subscriber<? super Integer> subscriber) {
+            super(batch.configuration, subscriber);
+
+            this.batch = batch;
+            this.chunkSize = batch.chunkSize();
+        }
+
+        @Override
+        final synchronized void drain0() {
+            try {
+                int size = batch.allBindValues.size();
+
+                while (moreRequested()) {
+                    if (counts == null) {
+                        if (size == 0)
+                            counts = batch.execute();
+                        else
+                            batch.checkBindValues();
+                    }
+
+                    // Execute the next chunk only once its update counts are requested
+                    while ((counts == null || i == counts.length) && next < size) {
+                        int to = Math.min(size, next + chunkSize);
+                        counts = batch.execute(batch.allBindValues.subList(next, to));
+                        next = to;
+                        i = 0;
+                    }
+
+                    if (i == counts.length) {
+                        subscriber.onComplete();
+                        break;
+                    }
+
+                    subscriber.onNext(counts[i++]);
+                }
+            }
+            catch (Throwable t) {
+                completed.set(true);
+                subscriber.onError(t);
+            }
+        }
+    }
+
+    static final class BlockingTransactionSubscription<T> extends BlockingSubscription<T> {
         final DSLContext                  ctx;
         final TransactionalPublishable<T> transactional;
 
@@ -1506,14 +1902,14 @@ final class R2DBC {
             Subscriber<? super T> subscriber,
             TransactionalPublishable<T> transactional
         ) {
-            super(subscriber);
+            super(ctx.configuration(), subscriber);
 
             this.ctx = ctx;
             this.transactional = transactional;
         }
 
         @Override
-        final void request0() {
+        final void drain0() {
             try {
                 subscriber.onNext(ctx.transactionResult(c -> block(transactional.run(c))));
                 subscriber.onComplete();
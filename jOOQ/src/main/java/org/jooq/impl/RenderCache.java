@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: https://www.jooq.org/legal/licensing
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.impl.CacheType.CACHE_RENDERED_SQL;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Param;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+import org.jooq.impl.FingerprintContext.Fingerprint;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A cache for {@link Rendered} SQL, keyed by the structural
+ * {@link Fingerprint} of the executed query.
+ * <p>
+ * On a cache hit, the SQL string is reused and only the bind values are
+ * extracted from the query, avoiding the {@link DefaultRenderContext}
+ * altogether.
+ *
+ * @author Lukas Eder
+ */
+final class RenderCache {
+
+    private static final JooqLogger log = JooqLogger.getLogger(RenderCache.class);
+
+    /**
+     * Render the query of an {@link DefaultExecuteContext}, or look up its
+     * cached rendering.
+     *
+     * @param configuration The configuration whose settings govern rendering.
+     * @param ctx The execute context whose query is being rendered.
+     * @param render The actual rendering operation.
+     */
+    static final Rendered rendered(Configuration configuration, DefaultExecuteContext ctx, Supplier<Rendered> render) {
+        if (!CACHE_RENDERED_SQL.category.predicate.test(configuration.settings())
+
+            // VisitListeners may transform the rendered SQL arbitrarily
+            || configuration.visitListenerProviders().length > 0
+
+            // There's no point in caching SQL strings containing all bind values
+            || getParamType(configuration.settings()) == INLINED)
+            return render.get();
+
+        FingerprintContext fingerprint = new FingerprintContext(configuration, ctx);
+
+        try {
+            fingerprint.visit(ctx.query());
+        }
+
+        // Some QueryParts are not fit for being visited by a BindContext, e.g.
+        // when they need to generate aliases. Such queries are not cached.
+        catch (RuntimeException e) {
+            log.debug("Cannot fingerprint query", e);
+            return render.get();
+        }
+
+        // Inline values are not part of the fingerprint
+        if (fingerprint.inlined())
+            return render.get();
+
+        Rendered[] miss = { null };
+        CacheValue value = Cache.run(
+            configuration,
+            () -> new CacheValue(ctx, miss[0] = render.get(), fingerprint.params),
+            CACHE_RENDERED_SQL,
+            fingerprint::fingerprint
+        );
+
+        if (miss[0] != null)
+            return miss[0];
+
+        Rendered result = value.rendered(fingerprint.params);
+        return result != null ? result : render.get();
+    }
+
+    static final class CacheValue {
+        final String     sql;
+        final int[]      bindMapping;
+        final int        skipUpdateCounts;
+        final Class<?>[] types;
+
+        CacheValue(DefaultExecuteContext ctx, Rendered rendered, List<Param<?>> params) {
+            this.sql = rendered.sql;
+            this.skipUpdateCounts = rendered.skipUpdateCounts;
+            this.bindMapping = bindMapping(ctx, rendered, params);
+            this.types = Tools.map(params, Param::getType, Class<?>[]::new);
+        }
+
+        /**
+         * Map each rendered bind value to the index of its {@link Param} in the
+         * query tree, or return <code>null</code> if the rendered SQL cannot be
+         * reused for other bind values.
+         */
+        private static final int[] bindMapping(DefaultExecuteContext ctx, Rendered rendered, List<Param<?>> params) {
+
+            // [#1520] Statically rendered SQL contains all bind values
+            if (rendered.bindValues == null || TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT)))
+                return null;
+
+            Map<Param<?>, Integer> indexes = new IdentityHashMap<>();
+            for (int i = 0; i < params.size(); i++)
+                indexes.putIfAbsent(params.get(i), i);
+
+            int size = rendered.bindValues.size();
+            int[] result = new int[size];
+            boolean[] mapped = new boolean[params.size()];
+
+            // The DefaultRenderContext may have created new Params that are
+            // not part of the query tree, e.g. when emulating clauses.
+            for (int i = 0; i < size; i++) {
+                Integer index = indexes.get(rendered.bindValues.get(i));
+
+                if (index == null)
+                    return null;
+
+                mapped[result[i] = index] = true;
+            }
+
+            // The DefaultRenderContext may have inlined or omitted Params
+            // depending on their values, e.g. LIMIT 0.
+            for (boolean m : mapped)
+                if (!m)
+                    return null;
+
+            return result;
+        }
+
+        /**
+         * Produce a {@link Rendered} value from the cached SQL string and the
+         * given bind values, or <code>null</code> if the SQL string cannot be
+         * reused.
+         */
+        final Rendered rendered(List<Param<?>> params) {
+            if (bindMapping == null || !matches(params))
+                return null;
+
+            Param<?>[] binds = new Param[bindMapping.length];
+            for (int i = 0; i < binds.length; i++)
+                binds[i] = params.get(bindMapping[i]);
+
+            return new Rendered(sql, new QueryPartList<>(binds), skipUpdateCounts);
+        }
+
+        /**
+         * A cheap structural check confirming a fingerprint match.
+         */
+        private final boolean matches(List<Param<?>> params) {
+            if (params.size() != types.length)
+                return false;
+
+            for (int i = 0; i < types.length; i++)
+                if (params.get(i).getType() != types[i])
+                    return false;
+
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+}
@@ -55,6 +55,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collector;
+import java.util.stream.StreamSupport;
 
 import org.jooq.Attachable;
 import org.jooq.Configuration;
@@ -114,9 +115,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     ResultImpl(Configuration configuration, AbstractRow fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, AbstractRow fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -125,7 +130,41 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+
+        // Columnar records are attached on access
+        return records instanceof ColumnarRecords<R> c ? Collections.singletonList(c) : records;
+    }
+
+    @Override
+    final Iterable<R> formattedRecords() {
+        return values();
+    }
+
+    /**
+     * The records, for operations that only read their values, and that don't
+     * retain them.
+     * <p>
+     * Columnar records aren't materialised for this, see
+     * {@link ColumnarRecords#reusingRecord()}.
+     */
+    private final Iterable<R> values() {
+        return records instanceof ColumnarRecords<R> c ? c.reusingRecord() : this;
+    }
+
+    /**
+     * Collect the values of the records, see {@link #values()}.
+     */
+    private final <X, A> X collectValues(Collector<? super R, A, X> collector) {
+        return records instanceof ColumnarRecords<R> c
+             ? StreamSupport.stream(c.reusingRecord().spliterator(), false).collect(collector)
+             : collect(collector);
+    }
+
+    /**
+     * The record at an index, for reading its values.
+     */
+    private final R peek(int index) {
+        return records instanceof ColumnarRecords<R> c ? c.peek(index) : get(index);
     }
 
     // -------------------------------------------------------------------------
@@ -149,77 +188,83 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T getValue(int index, Field<T> field) {
-        return get(index).get(field);
+        return peek(index).get(field);
     }
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
-        return get(index).get(fieldIndex);
+        return peek(index).get(fieldIndex);
     }
 
     @Override
     public final Object getValue(int index, String fieldName) {
-        return get(index).get(fieldName);
+        return peek(index).get(fieldName);
     }
 
     @Override
     public final <T> List<T> getValues(Field<T> field) {
-        return collect(intoList(recordType().mapper(field)));
+        if (records instanceof ColumnarRecords<R> c)
+            return (List<T>) c.values(indexOrFail(fields, field));
+
+        return collectValues(intoList(recordType().mapper(field)));
     }
 
     @Override
     public final <U> List<U> getValues(Field<?> field, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(field, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(field, Tools.configuration(this), type)));
     }
 
     @Override
     public final <T, U> List<U> getValues(Field<T> field, Converter<? super T, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(field, converter)));
+        return collectValues(intoList(recordType().mapper(field, converter)));
     }
 
     @Override
     public final List<?> getValues(int fieldIndex) {
-        return collect(intoList(recordType().mapper(fieldIndex)));
+        if (records instanceof ColumnarRecords<R> c)
+            return c.values(fields.fields.safeIndex(fieldIndex));
+
+        return collectValues(intoList(recordType().mapper(fieldIndex)));
     }
 
     @Override
     public final <U> List<U> getValues(int fieldIndex, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(int fieldIndex, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldIndex, converter)));
+        return collectValues(intoList(recordType().mapper(fieldIndex, converter)));
     }
 
     @Override
     public final List<?> getValues(String fieldName) {
-        return collect(intoList(recordType().mapper(fieldName)));
+        return collectValues(intoList(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> List<U> getValues(String fieldName, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(String fieldName, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldName, converter)));
+        return collectValues(intoList(recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final List<?> getValues(Name fieldName) {
-        return collect(intoList(recordType().mapper(fieldName)));
+        return collectValues(intoList(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> List<U> getValues(Name fieldName, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(Name fieldName, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldName, converter)));
+        return collectValues(intoList(recordType().mapper(fieldName, converter)));
     }
 
     final void addRecord(R record) {
@@ -228,7 +273,7 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<Map<String, Object>> intoMaps() {
-        return Tools.map(this, R::intoMap);
+        return Tools.map(values(), R::intoMap);
     }
 
     @Override
@@ -253,22 +298,28 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, V> intoMap(Field<K> key, Field<V> value) {
-        return collect(Records.intoMap(recordType().mapper(key), recordType().mapper(value)));
+        if (records instanceof ColumnarRecords<R> c)
+            return (Map<K, V>) c.intoMap(indexOrFail(fields, key), indexOrFail(fields, value));
+
+        return collectValues(Records.intoMap(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, ?> intoMap(int keyFieldIndex, int valueFieldIndex) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
+        if (records instanceof ColumnarRecords<R> c)
+            return c.intoMap(fields.fields.safeIndex(keyFieldIndex), fields.fields.safeIndex(valueFieldIndex));
+
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
     @Override
     public final Map<?, ?> intoMap(String keyFieldName, String valueFieldName) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
     public final Map<?, ?> intoMap(Name keyFieldName, Name valueFieldName) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
@@ -293,37 +344,37 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Map<Record, Record> intoMap(int[] keyFieldIndexes, int[] valueFieldIndexes) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldIndexes), recordType().mapper(valueFieldIndexes)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldIndexes), recordType().mapper(valueFieldIndexes)));
     }
 
     @Override
     public final Map<Record, Record> intoMap(String[] keyFieldNames, String[] valueFieldNames) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
     }
 
     @Override
     public final Map<Record, Record> intoMap(Name[] keyFieldNames, Name[] valueFieldNames) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
     }
 
     @Override
     public final Map<Record, Record> intoMap(Field<?>[] keys, Field<?>[] values) {
-        return collect(Records.intoMap(recordType().mapper(keys), recordType().mapper(values)));
+        return collectValues(Records.intoMap(recordType().mapper(keys), recordType().mapper(values)));
     }
 
     @Override
     public final <E> Map<List<?>, E> intoMap(int[] keyFieldIndexes, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldIndexes).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldIndexes).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<List<?>, E> intoMap(String[] keyFieldNames, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldNames).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldNames).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<List<?>, E> intoMap(Name[] keyFieldNames, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldNames).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldNames).andThen(Record::intoList), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -358,7 +409,7 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, V> intoMap(Class<? extends K> keyType, Class<? extends V> valueType) {
-        return collect(Records.intoMap(recordType().mapper(Tools.configuration(this), keyType), recordType().mapper(Tools.configuration(this), valueType)));
+        return collectValues(Records.intoMap(recordType().mapper(Tools.configuration(this), keyType), recordType().mapper(Tools.configuration(this), valueType)));
     }
 
     @Override
@@ -388,12 +439,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <S extends Record, T extends Record> Map<S, T> intoMap(Table<S> keyTable, Table<T> valueTable) {
-        return collect(Records.intoMap(recordType().mapper(keyTable), recordType().mapper(valueTable)));
+        return collectValues(Records.intoMap(recordType().mapper(keyTable), recordType().mapper(valueTable)));
     }
 
     @Override
     public final <E, S extends Record> Map<S, E> intoMap(Table<S> table, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(table), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(table), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -403,22 +454,22 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <E> Map<?, E> intoMap(int keyFieldIndex, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<?, E> intoMap(String keyFieldName, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<?, E> intoMap(Name keyFieldName, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <K, E> Map<K, E> intoMap(Field<K> key, Class<? extends E> type) {
-        return collect(Records.intoMap(recordType().mapper(key), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoMap(recordType().mapper(key), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -463,42 +514,48 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, List<V>> intoGroups(Field<K> key, Field<V> value) {
-        return collect(Records.intoGroups(recordType().mapper(key), recordType().mapper(value)));
+        if (records instanceof ColumnarRecords<R> c)
+            return (Map) c.intoGroups(indexOrFail(fields, key), indexOrFail(fields, value));
+
+        return collectValues(Records.intoGroups(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(int keyFieldIndex, int valueFieldIndex) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
+        if (records instanceof ColumnarRecords<R> c)
+            return (Map) c.intoGroups(fields.fields.safeIndex(keyFieldIndex), fields.fields.safeIndex(valueFieldIndex));
+
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(String keyFieldName, String valueFieldName) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(Name keyFieldName, Name valueFieldName) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
     public final <E> Map<?, List<E>> intoGroups(int keyFieldIndex, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<?, List<E>> intoGroups(String keyFieldName, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<?, List<E>> intoGroups(Name keyFieldName, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <K, E> Map<K, List<E>> intoGroups(Field<K> key, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(key), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(key), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -543,42 +600,42 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Map<Record, Result<Record>> intoGroups(int[] keyFieldIndexes, int[] valueFieldIndexes) {
-        return collect(intoResultGroups(recordType().mapper(keyFieldIndexes), recordType().mapper(valueFieldIndexes)));
+        return collectValues(intoResultGroups(recordType().mapper(keyFieldIndexes), recordType().mapper(valueFieldIndexes)));
     }
 
     @Override
     public final Map<Record, Result<Record>> intoGroups(String[] keyFieldNames, String[] valueFieldNames) {
-        return collect(intoResultGroups(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
+        return collectValues(intoResultGroups(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
     }
 
     @Override
     public final Map<Record, Result<Record>> intoGroups(Name[] keyFieldNames, Name[] valueFieldNames) {
-        return collect(intoResultGroups(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
+        return collectValues(intoResultGroups(recordType().mapper(keyFieldNames), recordType().mapper(valueFieldNames)));
     }
 
     @Override
     public final Map<Record, Result<Record>> intoGroups(Field<?>[] keys, Field<?>[] values) {
-        return collect(intoResultGroups(recordType().mapper(keys), recordType().mapper(values)));
+        return collectValues(intoResultGroups(recordType().mapper(keys), recordType().mapper(values)));
     }
 
     @Override
     public final <E> Map<Record, List<E>> intoGroups(int[] keyFieldIndexes, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldIndexes), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldIndexes), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<Record, List<E>> intoGroups(String[] keyFieldNames, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldNames), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldNames), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<Record, List<E>> intoGroups(Name[] keyFieldNames, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keyFieldNames), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keyFieldNames), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <E> Map<Record, List<E>> intoGroups(Field<?>[] keys, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(keys), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(keys), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -608,7 +665,7 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, List<V>> intoGroups(Class<? extends K> keyType, Class<? extends V> valueType) {
-        return collect(Records.intoGroups(recordType().mapper(Tools.configuration(this), keyType), recordType().mapper(Tools.configuration(this), valueType)));
+        return collectValues(Records.intoGroups(recordType().mapper(Tools.configuration(this), keyType), recordType().mapper(Tools.configuration(this), valueType)));
     }
 
     @Override
@@ -638,12 +695,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <S extends Record, T extends Record> Map<S, Result<T>> intoGroups(Table<S> keyTable, Table<T> valueTable) {
-        return collect(intoResultGroups(recordType().mapper(keyTable), recordType().mapper(valueTable)));
+        return collectValues(intoResultGroups(recordType().mapper(keyTable), recordType().mapper(valueTable)));
     }
 
     @Override
     public final <E, S extends Record> Map<S, List<E>> intoGroups(Table<S> table, Class<? extends E> type) {
-        return collect(Records.intoGroups(recordType().mapper(table), recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(Records.intoGroups(recordType().mapper(table), recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
@@ -653,67 +710,67 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[][] intoArrays() {
-        return collect(Records.intoArray(new Object[0][], R::intoArray));
+        return collectValues(Records.intoArray(new Object[0][], R::intoArray));
     }
 
     @Override
     public final Object[] intoArray(int fieldIndex) {
-        return collect(Records.intoArray(field(safeIndex(fieldIndex)).getType(), recordType().mapper(fieldIndex)));
+        return collectValues(Records.intoArray(field(safeIndex(fieldIndex)).getType(), recordType().mapper(fieldIndex)));
     }
 
     @Override
     public final <U> U[] intoArray(int fieldIndex, Class<? extends U> type) {
-        return collect(Records.intoArray(type, recordType().mapper(fieldIndex, Tools.configuration(this), type)));
+        return collectValues(Records.intoArray(type, recordType().mapper(fieldIndex, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> U[] intoArray(int fieldIndex, Converter<?, ? extends U> converter) {
-        return collect(Records.intoArray(converter.toType(), recordType().mapper(fieldIndex, converter)));
+        return collectValues(Records.intoArray(converter.toType(), recordType().mapper(fieldIndex, converter)));
     }
 
     @Override
     public final Object[] intoArray(String fieldName) {
-        return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
+        return collectValues(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> U[] intoArray(String fieldName, Class<? extends U> type) {
-        return collect(Records.intoArray(type, recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(Records.intoArray(type, recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> U[] intoArray(String fieldName, Converter<?, ? extends U> converter) {
-        return collect(Records.intoArray(converter.toType(), recordType().mapper(fieldName, converter)));
+        return collectValues(Records.intoArray(converter.toType(), recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final Object[] intoArray(Name fieldName) {
-        return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
+        return collectValues(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> U[] intoArray(Name fieldName, Class<? extends U> type) {
-        return collect(Records.intoArray(type, recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(Records.intoArray(type, recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> U[] intoArray(Name fieldName, Converter<?, ? extends U> converter) {
-        return collect(Records.intoArray(converter.toType(), recordType().mapper(fieldName, converter)));
+        return collectValues(Records.intoArray(converter.toType(), recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final <T> T[] intoArray(Field<T> field) {
-        return collect(Records.intoArray(field.getType(), recordType().mapper(field)));
+        return collectValues(Records.intoArray(field.getType(), recordType().mapper(field)));
     }
 
     @Override
     public final <U> U[] intoArray(Field<?> field, Class<? extends U> type) {
-        return collect(Records.intoArray(type, recordType().mapper(field, Tools.configuration(this), type)));
+        return collectValues(Records.intoArray(type, recordType().mapper(field, Tools.configuration(this), type)));
     }
 
     @Override
     public final <T, U> U[] intoArray(Field<T> field, Converter<? super T, ? extends U> converter) {
-        return collect(Records.intoArray(converter.toType(), recordType().mapper(field, converter)));
+        return collectValues(Records.intoArray(converter.toType(), recordType().mapper(field, converter)));
     }
 
     @Override
@@ -723,62 +780,62 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Set<?> intoSet(int fieldIndex) {
-        return collect(Records.intoSet(recordType().mapper(fieldIndex)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldIndex)));
     }
 
     @Override
     public final <U> Set<U> intoSet(int fieldIndex, Class<? extends U> type) {
-        return collect(Records.intoSet(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> Set<U> intoSet(int fieldIndex, Converter<?, ? extends U> converter) {
-        return collect(Records.intoSet(recordType().mapper(fieldIndex, converter)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldIndex, converter)));
     }
 
     @Override
     public final Set<?> intoSet(String fieldName) {
-        return collect(Records.intoSet(recordType().mapper(fieldName)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> Set<U> intoSet(String fieldName, Class<? extends U> type) {
-        return collect(Records.intoSet(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> Set<U> intoSet(String fieldName, Converter<?, ? extends U> converter) {
-        return collect(Records.intoSet(recordType().mapper(fieldName, converter)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final Set<?> intoSet(Name fieldName) {
-        return collect(Records.intoSet(recordType().mapper(fieldName)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> Set<U> intoSet(Name fieldName, Class<? extends U> type) {
-        return collect(Records.intoSet(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> Set<U> intoSet(Name fieldName, Converter<?, ? extends U> converter) {
-        return collect(Records.intoSet(recordType().mapper(fieldName, converter)));
+        return collectValues(Records.intoSet(recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final <T> Set<T> intoSet(Field<T> field) {
-        return collect(Records.intoSet(recordType().mapper(field)));
+        return collectValues(Records.intoSet(recordType().mapper(field)));
     }
 
     @Override
     public final <U> Set<U> intoSet(Field<?> field, Class<? extends U> type) {
-        return collect(Records.intoSet(recordType().mapper(field, Tools.configuration(this), type)));
+        return collectValues(Records.intoSet(recordType().mapper(field, Tools.configuration(this), type)));
     }
 
     @Override
     public final <T, U> Set<U> intoSet(Field<T> field, Converter<? super T, ? extends U> converter) {
-        return collect(Records.intoSet(recordType().mapper(field, converter)));
+        return collectValues(Records.intoSet(recordType().mapper(field, converter)));
     }
 
     @Override
@@ -907,14 +964,14 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <E> List<E> into(Class<? extends E> type) {
-        return collect(intoList(recordType().mapper(Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(Tools.configuration(this), type)));
     }
 
     @Override
     public final <Z extends Record> Result<Z> into(Table<Z> table) {
         Result<Z> list = new ResultImpl<>(Tools.configuration(this), (AbstractRow) table.fieldsRow());
 
-        for (R record : this)
+        for (R record : values())
             list.add(record.into(table));
 
         return list;
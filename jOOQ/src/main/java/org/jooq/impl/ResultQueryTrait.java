@@ -281,6 +281,13 @@ extends
         return new ResultAsCursor<R>(fetch());
     }
 
+    @Override
+    default Result<R> fetchColumnar() throws DataAccessException {
+        try (Cursor<R> c = fetchLazy()) {
+            return ColumnarRecords.result(Tools.configuration(this), c);
+        }
+    }
+
     @Override
     default Results fetchMany() throws DataAccessException {
         throw new DataAccessException("Attempt to call fetchMany() on " + getClass());
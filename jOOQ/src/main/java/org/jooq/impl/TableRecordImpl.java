@@ -211,15 +211,8 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         if (key != null && !key.isEmpty()) {
             R record = query.getReturnedRecord();
 
-            if (record != null) {
-                for (Field<?> field : key) {
-                    int index = indexOrFail(fieldsRow(), field);
-                    Object value = record.get(field);
-
-                    values[index] = value;
-                    originals[index] = value;
-                }
-            }
+            if (record != null)
+                setReturned(key, record);
 
             // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
             Configuration c = configuration();
@@ -240,6 +233,18 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
         }
     }
 
+    /**
+     * Set the values of the returned record onto this record.
+     */
+    final void setReturned(Collection<? extends Field<?>> key, Record record) {
+        for (Field<?> field : key) {
+            int index = indexOrFail(fieldsRow(), field);
+            Object value = record.get(field);
+
+            setValueAndOriginal(index, value);
+        }
+    }
+
     final Collection<Field<?>> setReturningIfNeeded(StoreQuery<R> query) {
         Collection<Field<?>> key = null;
 
@@ -272,18 +277,14 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(version);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            setState(fieldIndex, value, value, false);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(timestamp);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            setState(fieldIndex, value, value, false);
         }
     }
 
@@ -3509,9 +3509,16 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
-        target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+        Object value = source.get(sourceIndex);
+        Object original = source.original(sourceIndex);
+        T converted = targetType.convert(value);
+
+        target.setState(
+            targetIndex,
+            converted,
+            value == original ? converted : targetType.convert(original),
+            source.changed(sourceIndex)
+        );
     }
 
     /**
@@ -49,7 +49,7 @@ import static org.jooq.impl.Tools.newRecord;
 import static org.jooq.impl.Tools.row0;
 import static org.jooq.tools.StringUtils.defaultIfBlank;
 
-import java.io.ByteArrayInputStream;
+import java.io.StringReader;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -69,6 +69,7 @@ import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
 
 import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXNotRecognizedException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -123,8 +124,13 @@ final class XMLHandler<R extends Record> extends DefaultHandler {
                 }
             }
 
-            r.from(values);
-            r.changed(false);
+            // This is the same as Record.from(values), followed by
+            // Record.changed(false), but without any intermediary records
+            AbstractRecord a = (AbstractRecord) r;
+
+            for (int i = 0; i < row.size() && i < values.size(); i++)
+                a.setValueAndOriginal(i, row.field(i).getDataType().convert(values.get(i)));
+
             return r;
         }
     }
@@ -168,7 +174,7 @@ final class XMLHandler<R extends Record> extends DefaultHandler {
             SAXParser saxParser = factory.newSAXParser();
             // TODO: Why does the SAXParser replace \r by \n?
 
-            saxParser.parse(new ByteArrayInputStream(string.getBytes(ctx.configuration().charsetProvider().provide())), this);
+            saxParser.parse(new InputSource(new StringReader(string)), this);
             return s.result;
         }
         catch (Exception e) {